@@ -60,6 +60,11 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void render() {
+        FrameProfiler.beginFrame(GraphicsManager.getBatch());
+
+        // Finish a room switch once its assets are loaded
+        Game.update();
+
         // Input (disabled when interactions are locked)
         if (!GameManager.isInteractionsLocked()) {
             InputManager.checkInput();
@@ -71,6 +76,9 @@ public class Main extends ApplicationAdapter {
         if (GraphicsManager.isPaused()) GraphicsManager.blurredDraw(GraphicsManager.getBatch());
         else GraphicsManager.draw(GraphicsManager.getBatch());
         GraphicsManager.drawPauseUI(GraphicsManager.getBatch());
+        FrameProfiler.endFrame(GraphicsManager.getBatch());
+        // Drawn after the frame is measured so it does not skew the numbers
+        GraphicsManager.drawProfilerOverlay(GraphicsManager.getBatch());
 
         // SOUND
         SoundManager.update();
@@ -79,6 +87,11 @@ public class Main extends ApplicationAdapter {
     @Override
     public void dispose() {
         GraphicsManager.getBatch().dispose();
+        GraphicsManager.dispose();
         GraphicUtils.dispose();
+        SoundManager.dispose();
+        TextureManager.dispose();
+        FontManager.dispose();
+        AssetService.dispose();
     }
 }
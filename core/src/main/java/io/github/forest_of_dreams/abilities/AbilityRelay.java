@@ -1,61 +1,105 @@
 package io.github.forest_of_dreams.abilities;
 
-import io.github.forest_of_dreams.interfaces.Renderable;
-import io.github.forest_of_dreams.game_objects.board.Board;
-import io.github.forest_of_dreams.game_objects.board.GamePiece;
-import io.github.forest_of_dreams.game_objects.board.MonsterGamePiece;
 import io.github.forest_of_dreams.multiplayer.EventBus;
 import io.github.forest_of_dreams.multiplayer.GameEvent;
 import io.github.forest_of_dreams.multiplayer.GameEventType;
-import io.github.forest_of_dreams.managers.GraphicsManager;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
- * Central relay that forwards GameEventBus events to TriggeredAbility instances
- * on all living pieces across active Boards. This avoids each ability registering
- * its own listeners unless it needs specialized behavior.
+ * Central relay that forwards EventBus events to TriggeredAbility instances.
+ * Abilities declare the event types they care about via TriggeredAbility.getInterestedEvents();
+ * MonsterGamePiece subscribes them here on attach and unsubscribes them on detach, so delivering an
+ * event only touches the abilities interested in its type. The relay listens on the EventBus only for
+ * types that currently have subscribers, and only while started. Pieces are not detached when their room
+ * is torn down, so Game.clearRoom() drops the whole index via clear().
  */
 public final class AbilityRelay {
+    private static final TriggeredAbility[] NONE = new TriggeredAbility[0];
+    // Copy-on-write per-type index: an ability detaching during delivery (e.g. its owner dies) is safe
+    private static final Map<GameEventType, TriggeredAbility[]> subscribers = new EnumMap<>(GameEventType.class);
+    private static final Consumer<GameEvent> listener = AbilityRelay::onGameEvent;
     private static boolean started = false;
-    private static Consumer<GameEvent> listener;
 
     private AbilityRelay() {}
 
     public static void startIfNeeded() {
         if (started) return;
         started = true;
-        listener = AbilityRelay::onGameEvent;
-        for (GameEventType t : GameEventType.values()) {
+        for (GameEventType t : subscribers.keySet()) {
             EventBus.register(t, listener);
         }
     }
 
     public static void stop() {
         if (!started) return;
-        for (GameEventType t : GameEventType.values()) {
+        for (GameEventType t : subscribers.keySet()) {
             EventBus.unregister(t, listener);
         }
-        listener = null;
         started = false;
     }
 
-    private static void onGameEvent(GameEvent event) {
-        // Iterate all active Boards and deliver to TriggeredAbility on pieces
-        for (Renderable r : GraphicsManager.getRenderables()) {
-            if (!(r instanceof Board board)) continue;
-            for (int row = 0; row < board.getROWS(); row++) {
-                for (int col = 0; col < board.getCOLS(); col++) {
-                    GamePiece gp = board.getGamePieceAtPos(row, col);
-                    if (gp instanceof MonsterGamePiece mgp) {
-                        for (Ability a : mgp.getAbilities()) {
-                            if (a instanceof TriggeredAbility trig) {
-                                try { trig.onGameEvent(event); } catch (Exception ignored) {}
-                            }
-                        }
-                    }
-                }
+    /** Add an ability to the index for each of its interested event types. */
+    public static void subscribe(TriggeredAbility ability) {
+        if (ability == null) return;
+        for (GameEventType t : ability.getInterestedEvents()) {
+            TriggeredAbility[] current = subscribers.getOrDefault(t, NONE);
+            if (indexOf(current, ability) >= 0) continue;
+            TriggeredAbility[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = ability;
+            subscribers.put(t, next);
+            // First subscriber for this type: start listening for it
+            if (started && current.length == 0) EventBus.register(t, listener);
+        }
+    }
+
+    /** Remove an ability from the index. */
+    public static void unsubscribe(TriggeredAbility ability) {
+        if (ability == null) return;
+        for (GameEventType t : ability.getInterestedEvents()) {
+            TriggeredAbility[] current = subscribers.getOrDefault(t, NONE);
+            int i = indexOf(current, ability);
+            if (i < 0) continue;
+            if (current.length == 1) {
+                // Last subscriber gone: stop listening for this type
+                subscribers.remove(t);
+                if (started) EventBus.unregister(t, listener);
+                continue;
             }
+            TriggeredAbility[] next = Arrays.copyOf(current, current.length - 1);
+            System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+            subscribers.put(t, next);
+        }
+    }
+
+    /** Drop every subscription (room teardown); the relay stays started for the next room's pieces. */
+    public static void clear() {
+        if (started) {
+            for (GameEventType t : subscribers.keySet()) {
+                EventBus.unregister(t, listener);
+            }
+        }
+        subscribers.clear();
+    }
+
+    /** Number of abilities currently subscribed to the given type. */
+    public static int getSubscriberCount(GameEventType type) {
+        return subscribers.getOrDefault(type, NONE).length;
+    }
+
+    private static int indexOf(TriggeredAbility[] arr, TriggeredAbility ability) {
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == ability) return i;
+        }
+        return -1;
+    }
+
+    private static void onGameEvent(GameEvent event) {
+        for (TriggeredAbility trig : subscribers.getOrDefault(event.getType(), NONE)) {
+            try { trig.onGameEvent(event); } catch (Exception ignored) {}
         }
     }
 }
@@ -2,9 +2,11 @@ package io.github.forest_of_dreams.abilities;
 
 import io.github.forest_of_dreams.data_objects.ClickableEffectData;
 import io.github.forest_of_dreams.enums.GamePieceData;
+import io.github.forest_of_dreams.game_objects.board.Board;
 import io.github.forest_of_dreams.game_objects.board.MonsterGamePiece;
 import io.github.forest_of_dreams.interfaces.CustomBox;
 import io.github.forest_of_dreams.multiplayer.EventBus;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 import io.github.forest_of_dreams.multiplayer.GameEventType;
 
 import java.util.HashMap;
@@ -56,14 +58,7 @@ public final class AbilityUtils {
     public static void spendAction(MonsterGamePiece mgp) {
         int left = Math.max(0, getRemainingActions(mgp) - 1);
         mgp.updateData(GamePieceData.ACTIONS_REMAINING, left);
-        EventBus.emit(
-            GameEventType.ACTION_SPENT,
-            Map.of(
-                "pieceId", mgp.getId().toString(),
-                "owner", mgp.getAlignment().name(),
-                "remaining", left
-            )
-        );
+        EventBus.emit(new GameEvents.ActionSpent(mgp.getId(), mgp.getAlignment(), left));
     }
 
     /**
@@ -74,12 +69,15 @@ public final class AbilityUtils {
         if (target == null || amount <= 0) return true;
         target.getStats().dealDamage(amount);
         if (target.getStats().isDead()) {
+            // Capture the cell before die() removes the piece from its board (-1 if not on a board)
+            int row = -1, col = -1;
+            if (target.getData(GamePieceData.POSITION) instanceof Board.Position pos) {
+                row = pos.getRow();
+                col = pos.getCol();
+            }
             target.die();
             if (emitDeathEvent) {
-                emit(
-                    GameEventType.PIECE_DIED,
-                    "pieceId", target.getId().toString()
-                );
+                EventBus.emit(new GameEvents.PieceDied(target.getId(), row, col));
             }
             return false;
         }
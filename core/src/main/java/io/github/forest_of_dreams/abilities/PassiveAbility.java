@@ -1,5 +1,6 @@
 package io.github.forest_of_dreams.abilities;
 
+import io.github.forest_of_dreams.abilities.aura.AuraShape;
 import io.github.forest_of_dreams.abilities.stats.StatsModifier;
 import io.github.forest_of_dreams.game_objects.board.Board;
 import io.github.forest_of_dreams.game_objects.board.MonsterGamePiece;
@@ -18,4 +19,10 @@ public interface PassiveAbility extends Ability {
 
     /** Whether the condition for this passive is currently met. */
     boolean isConditionMet(MonsterGamePiece owner, Board board);
+
+    /**
+     * Non-null for auras: AuraEngine then applies getModifier() to every piece inside this shape around
+     * the owner and keeps the set up to date as pieces move, spawn and die.
+     */
+    default AuraShape getAuraShape() { return null; }
 }
@@ -3,6 +3,9 @@ package io.github.forest_of_dreams.abilities;
 import io.github.forest_of_dreams.enums.PieceAlignment;
 import io.github.forest_of_dreams.game_objects.board.MonsterGamePiece;
 import io.github.forest_of_dreams.multiplayer.GameEvent;
+import io.github.forest_of_dreams.multiplayer.GameEventType;
+
+import java.util.Set;
 
 /**
  * Triggered abilities react to lifecycle or global game events. Implement any hooks you need;
@@ -23,4 +26,10 @@ public interface TriggeredAbility extends Ability {
 
     // Global event hook for flexible triggers (any spawned, enemy within N, etc.)
     default void onGameEvent(GameEvent event) {}
+
+    /**
+     * Event types onGameEvent should receive via AbilityRelay. Read once when the ability is attached;
+     * abilities that do not override onGameEvent keep the empty default and are never called.
+     */
+    default Set<GameEventType> getInterestedEvents() { return Set.of(); }
 }
@@ -0,0 +1,245 @@
+package io.github.forest_of_dreams.abilities.aura;
+
+import io.github.forest_of_dreams.abilities.PassiveAbility;
+import io.github.forest_of_dreams.abilities.stats.StatsModifier;
+import io.github.forest_of_dreams.enums.GamePieceData;
+import io.github.forest_of_dreams.game_objects.board.Board;
+import io.github.forest_of_dreams.game_objects.board.GamePiece;
+import io.github.forest_of_dreams.game_objects.board.MonsterGamePiece;
+import io.github.forest_of_dreams.multiplayer.EventBus;
+import io.github.forest_of_dreams.multiplayer.GameEvent;
+import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Central engine for aura-style PassiveAbilities (those returning a non-null AuraShape).
+ * Each aura is indexed by the cell its owner occupied when it was last evaluated. A move, spawn or death
+ * only re-evaluates the auras whose owner cell lies within reach of the touched cells, so the cost of
+ * an event depends on the auras nearby rather than on the total number of auras or the board size.
+ * Re-evaluation diffs the new recipient set against the previous one and adds/removes the ability's
+ * StatsModifier only where membership changed.
+ */
+public final class AuraEngine {
+    // Event types that can change aura membership
+    private static final GameEventType[] TYPES = {GameEventType.PIECE_MOVED, GameEventType.PIECE_SPAWNED, GameEventType.PIECE_DIED};
+    private static final Map<PassiveAbility, Aura> auras = new IdentityHashMap<>();
+    // Per-board cell index of evaluated auras; auras whose owner is not on a board wait in 'pending'
+    private static final Map<Board, BoardIndex> boards = new IdentityHashMap<>();
+    private static final List<Aura> pending = new ArrayList<>();
+    private static final Consumer<GameEvent> listener = AuraEngine::onGameEvent;
+    private static int maxRadius = 0;
+    private static boolean listening = false;
+
+    // Scratch collections reused across events (render thread only)
+    private static final Set<Aura> dirty = new LinkedHashSet<>();
+    private static final List<Aura> evaluating = new ArrayList<>();
+    private static final Set<MonsterGamePiece> scratchTargets = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private AuraEngine() {}
+
+    private static final class Aura {
+        final MonsterGamePiece owner;
+        final PassiveAbility ability;
+        final AuraShape shape;
+        final Set<MonsterGamePiece> applied = Collections.newSetFromMap(new IdentityHashMap<>());
+        Board board = null; // where the aura is indexed (null while pending)
+        int row = -1;
+        int col = -1;
+
+        Aura(MonsterGamePiece owner, PassiveAbility ability, AuraShape shape) {
+            this.owner = owner;
+            this.ability = ability;
+            this.shape = shape;
+        }
+    }
+
+    private static final class BoardIndex {
+        final List<Aura>[] cells;
+        int count = 0;
+
+        @SuppressWarnings("unchecked")
+        BoardIndex(Board board) {
+            this.cells = new List[board.getROWS() * board.getCOLS()];
+        }
+    }
+
+    /** Start applying an aura ability owned by 'owner'. No-op for passives without a shape. */
+    public static void register(MonsterGamePiece owner, PassiveAbility ability) {
+        if (owner == null || ability == null || auras.containsKey(ability)) return;
+        AuraShape shape = ability.getAuraShape();
+        if (shape == null) return;
+        Aura aura = new Aura(owner, ability, shape);
+        auras.put(ability, aura);
+        maxRadius = Math.max(maxRadius, shape.radius());
+        if (!listening) {
+            for (GameEventType t : TYPES) EventBus.register(t, listener);
+            listening = true;
+        }
+        pending.add(aura);
+        evaluate(aura);
+    }
+
+    /** Stop applying an aura and remove its modifier from every piece it was applied to. */
+    public static void unregister(PassiveAbility ability) {
+        Aura aura = auras.remove(ability);
+        if (aura == null) return;
+        StatsModifier mod = aura.ability.getModifier();
+        for (MonsterGamePiece target : aura.applied) target.getStatsAccumulator().remove(mod);
+        aura.applied.clear();
+        unindex(aura);
+        pending.remove(aura);
+        if (auras.isEmpty() && listening) {
+            for (GameEventType t : TYPES) EventBus.unregister(t, listener);
+            listening = false;
+            maxRadius = 0;
+        }
+    }
+
+    /** Forget every aura without touching their targets (room teardown: the old pieces are discarded). */
+    public static void clear() {
+        auras.clear();
+        boards.clear();
+        pending.clear();
+        dirty.clear();
+        if (listening) {
+            for (GameEventType t : TYPES) EventBus.unregister(t, listener);
+            listening = false;
+        }
+        maxRadius = 0;
+    }
+
+    /** Number of registered auras. */
+    public static int getAuraCount() {
+        return auras.size();
+    }
+
+    private static void onGameEvent(GameEvent event) {
+        if (event instanceof GameEvents.PieceMoved m) {
+            collectNear(m.fromRow(), m.fromCol());
+            collectNear(m.toRow(), m.toCol());
+        } else if (event instanceof GameEvents.PieceSpawned s) {
+            collectNear(s.row(), s.col());
+            // The spawned piece may own auras that were waiting for a board
+            for (Aura a : pending) {
+                if (a.owner.getId().equals(s.pieceId())) dirty.add(a);
+            }
+        } else if (event instanceof GameEvents.PieceDied d) {
+            collectNear(d.row(), d.col());
+        } else {
+            return;
+        }
+        if (dirty.isEmpty()) return;
+        evaluating.addAll(dirty);
+        dirty.clear();
+        for (Aura a : evaluating) {
+            // Skip auras unregistered since they were collected
+            if (auras.get(a.ability) != a) continue;
+            // A dead owner's aura is dropped for good, even if its abilities were never detached
+            if (event instanceof GameEvents.PieceDied d && a.owner.getId().equals(d.pieceId())) unregister(a.ability);
+            else evaluate(a);
+        }
+        evaluating.clear();
+    }
+
+    // Mark auras indexed within maxRadius of (row, col) on any board whose owner cell can reach that cell
+    private static void collectNear(int row, int col) {
+        for (Map.Entry<Board, BoardIndex> e : boards.entrySet()) {
+            Board board = e.getKey();
+            List<Aura>[] index = e.getValue().cells;
+            int rows = board.getROWS();
+            int cols = board.getCOLS();
+            for (int r = Math.max(0, row - maxRadius); r <= Math.min(rows - 1, row + maxRadius); r++) {
+                for (int c = Math.max(0, col - maxRadius); c <= Math.min(cols - 1, col + maxRadius); c++) {
+                    List<Aura> here = index[r * cols + c];
+                    if (here == null) continue;
+                    for (Aura a : here) {
+                        // The owner's own cell counts as touched (owner moved or died)
+                        if ((r == row && c == col) || a.shape.covers(row - r, col - c)) dirty.add(a);
+                    }
+                }
+            }
+        }
+    }
+
+    // Recompute recipients from the owner's current cell, apply the difference and re-index
+    private static void evaluate(Aura aura) {
+        scratchTargets.clear();
+        Board board = null;
+        int row = -1;
+        int col = -1;
+        Object posObj = aura.owner.getData(GamePieceData.POSITION);
+        if (posObj instanceof Board.Position pos && pos.getBoard() != null
+            && pos.getBoard().getGamePieceAtPos(pos.getRow(), pos.getCol()) == aura.owner) {
+            board = pos.getBoard();
+            row = pos.getRow();
+            col = pos.getCol();
+            int radius = aura.shape.radius();
+            for (int r = Math.max(0, row - radius); r <= Math.min(board.getROWS() - 1, row + radius); r++) {
+                for (int c = Math.max(0, col - radius); c <= Math.min(board.getCOLS() - 1, col + radius); c++) {
+                    if (!aura.shape.covers(r - row, c - col)) continue;
+                    GamePiece gp = board.getGamePieceAtPos(r, c);
+                    if (gp instanceof MonsterGamePiece target && target != aura.owner
+                        && aura.shape.filter().test(aura.owner, target)) {
+                        scratchTargets.add(target);
+                    }
+                }
+            }
+        }
+
+        StatsModifier mod = aura.ability.getModifier();
+        // Remove from pieces no longer covered
+        aura.applied.removeIf(prev -> {
+            if (scratchTargets.contains(prev)) return false;
+            prev.getStatsAccumulator().remove(mod);
+            return true;
+        });
+        // Add to new recipients
+        for (MonsterGamePiece target : scratchTargets) {
+            if (aura.applied.add(target)) target.getStatsAccumulator().add(mod);
+        }
+        scratchTargets.clear();
+
+        if (board != aura.board || row != aura.row || col != aura.col) {
+            unindex(aura);
+            if (board == null) {
+                if (!pending.contains(aura)) pending.add(aura);
+            } else {
+                pending.remove(aura);
+                index(aura, board, row, col);
+            }
+        }
+    }
+
+    private static void index(Aura aura, Board board, int row, int col) {
+        BoardIndex index = boards.computeIfAbsent(board, BoardIndex::new);
+        int i = row * board.getCOLS() + col;
+        if (index.cells[i] == null) index.cells[i] = new ArrayList<>(1);
+        index.cells[i].add(aura);
+        index.count++;
+        aura.board = board;
+        aura.row = row;
+        aura.col = col;
+    }
+
+    private static void unindex(Aura aura) {
+        if (aura.board == null) return;
+        BoardIndex index = boards.get(aura.board);
+        int i = aura.row * aura.board.getCOLS() + aura.col;
+        if (index != null && index.cells[i] != null && index.cells[i].remove(aura)) {
+            if (index.cells[i].isEmpty()) index.cells[i] = null;
+            if (--index.count == 0) boards.remove(aura.board);
+        }
+        aura.board = null;
+        aura.row = -1;
+        aura.col = -1;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.forest_of_dreams.abilities.aura;
+
+import io.github.forest_of_dreams.game_objects.board.MonsterGamePiece;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Area covered by an aura around its owner's cell, plus which pieces inside it are affected.
+ * The filter receives (owner, candidate); the owner itself is never a candidate.
+ */
+public record AuraShape(int radius, Metric metric, BiPredicate<MonsterGamePiece, MonsterGamePiece> filter) {
+    public enum Metric {
+        CARDINAL,  // Manhattan distance: radius 1 = the four orthogonal neighbours
+        CHEBYSHEV  // square distance: radius 1 = all eight neighbours
+    }
+
+    public static AuraShape cardinal(int radius, BiPredicate<MonsterGamePiece, MonsterGamePiece> filter) {
+        return new AuraShape(radius, Metric.CARDINAL, filter);
+    }
+
+    public static AuraShape chebyshev(int radius, BiPredicate<MonsterGamePiece, MonsterGamePiece> filter) {
+        return new AuraShape(radius, Metric.CHEBYSHEV, filter);
+    }
+
+    /** Whether a cell at the given offset from the owner lies inside the shape (the owner's own cell does not). */
+    public boolean covers(int dRow, int dCol) {
+        int ar = Math.abs(dRow);
+        int ac = Math.abs(dCol);
+        if (ar + ac == 0) return false;
+        return switch (metric) {
+            case CARDINAL -> ar + ac <= radius;
+            case CHEBYSHEV -> Math.max(ar, ac) <= radius;
+        };
+    }
+}
@@ -14,11 +14,10 @@ import io.github.forest_of_dreams.game_objects.board.Plot;
 import io.github.forest_of_dreams.interfaces.CustomBox;
 import io.github.forest_of_dreams.managers.TurnManager;
 import io.github.forest_of_dreams.multiplayer.EventBus;
-import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 import io.github.forest_of_dreams.utils.Logger;
 
 import java.util.HashMap;
-import java.util.Map;
 
 /**
  * WarpMage actionable ability: "Displace"
@@ -108,17 +107,7 @@ public class DisplaceAbility implements ActionableAbility {
         target.updateData(GamePieceData.POSITION, new Board.Position(board, dr, dc));
         try { target.notifyMoved(tr, tc, dr, dc); } catch (Exception ignored) {}
         // Emit PIECE_MOVED for the target
-        EventBus.emit(
-                GameEventType.PIECE_MOVED,
-                Map.of(
-                        "pieceId", target.getId().toString(),
-                        "owner", target.getAlignment().name(),
-                        "fromRow", tr,
-                        "fromCol", tc,
-                        "toRow", dr,
-                        "toCol", dc
-                )
-        );
+        EventBus.emit(new GameEvents.PieceMoved(target.getId(), target.getAlignment(), tr, tc, dr, dc));
 
         // Spend 1 action from owner
         AbilityUtils.spendAction(owner);
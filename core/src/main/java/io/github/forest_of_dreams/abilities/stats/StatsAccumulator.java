@@ -1,5 +1,7 @@
 package io.github.forest_of_dreams.abilities.stats;
 
+import lombok.Getter;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -7,15 +9,25 @@ import java.util.List;
 /**
  * Stores all StatsModifiers currently affecting a MonsterGamePiece.
  * Abilities add/remove their modifiers here based on triggers and conditions.
+ * Per-stat add/mult totals are kept up to date on every add/remove, so effective stats are O(1) reads;
+ * 'version' increments on every change. A modifier's fields must not be changed while it is held here
+ * (remove it, change it, then add it again).
  */
 public final class StatsAccumulator {
     private final List<StatsModifier> modifiers = new ArrayList<>();
+    private final List<StatsModifier> view = Collections.unmodifiableList(modifiers);
+
+    // Pre-aggregated totals over all held modifiers
+    @Getter private int addCost, addMaxHealth, addDamage, addSpeed, addActions;
+    @Getter private float multCost, multMaxHealth, multDamage, multSpeed, multActions;
+    @Getter private long version = 0;
 
     public void add(StatsModifier mod) {
         if (mod == null || mod.isNoOp()) return;
         if (!modifiers.contains(mod)) {
             modifiers.add(mod);
             mod._registerHolder(this);
+            accumulate(mod, 1);
         }
     }
 
@@ -23,6 +35,7 @@ public final class StatsAccumulator {
         if (mod == null) return;
         if (modifiers.remove(mod)) {
             mod._unregisterHolder(this);
+            accumulate(mod, -1);
         }
     }
 
@@ -34,11 +47,32 @@ public final class StatsAccumulator {
             if (m.source == source) {
                 modifiers.remove(i);
                 m._unregisterHolder(this);
+                accumulate(m, -1);
             }
         }
     }
 
     public List<StatsModifier> getAll() {
-        return Collections.unmodifiableList(modifiers);
+        return view;
+    }
+
+    private void accumulate(StatsModifier m, int sign) {
+        version++;
+        if (modifiers.isEmpty()) {
+            // Reset exactly so float multipliers cannot drift away from zero
+            addCost = addMaxHealth = addDamage = addSpeed = addActions = 0;
+            multCost = multMaxHealth = multDamage = multSpeed = multActions = 0f;
+            return;
+        }
+        addCost += sign * m.addCost;
+        addMaxHealth += sign * m.addMaxHealth;
+        addDamage += sign * m.addDamage;
+        addSpeed += sign * m.addSpeed;
+        addActions += sign * m.addActions;
+        multCost += sign * m.multCost;
+        multMaxHealth += sign * m.multMaxHealth;
+        multDamage += sign * m.multDamage;
+        multSpeed += sign * m.multSpeed;
+        multActions += sign * m.multActions;
     }
 }
@@ -0,0 +1,68 @@
+package io.github.forest_of_dreams.bot;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * One atomic bot decision expressed in grid coordinates, independent of Plots, Cards or rendering.
+ * SUMMON refers to an entry of the searched state's summon options by index; END_TURN carries no coordinates.
+ */
+@Getter
+public final class BotAction {
+    public enum Type { ATTACK, MOVE, SUMMON, END_TURN }
+
+    private static final BotAction END_TURN = new BotAction(Type.END_TURN, -1, -1, -1, -1, -1);
+
+    private final Type type;
+    private final int fromRow;
+    private final int fromCol;
+    private final int toRow;
+    private final int toCol;
+    private final int option; // summon option index (SUMMON only)
+
+    private BotAction(Type type, int fromRow, int fromCol, int toRow, int toCol, int option) {
+        this.type = type;
+        this.fromRow = fromRow;
+        this.fromCol = fromCol;
+        this.toRow = toRow;
+        this.toCol = toCol;
+        this.option = option;
+    }
+
+    public static BotAction attack(int fromRow, int fromCol, int toRow, int toCol) {
+        return new BotAction(Type.ATTACK, fromRow, fromCol, toRow, toCol, -1);
+    }
+
+    public static BotAction move(int fromRow, int fromCol, int toRow, int toCol) {
+        return new BotAction(Type.MOVE, fromRow, fromCol, toRow, toCol, -1);
+    }
+
+    public static BotAction summon(int option, int row, int col) {
+        return new BotAction(Type.SUMMON, -1, -1, row, col, option);
+    }
+
+    public static BotAction endTurn() { return END_TURN; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BotAction a)) return false;
+        return type == a.type && fromRow == a.fromRow && fromCol == a.fromCol
+            && toRow == a.toRow && toCol == a.toCol && option == a.option;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, fromRow, fromCol, toRow, toCol, option);
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case ATTACK, MOVE -> type + " (" + fromRow + "," + fromCol + ") -> (" + toRow + "," + toCol + ")";
+            case SUMMON -> "SUMMON #" + option + " -> (" + toRow + "," + toCol + ")";
+            case END_TURN -> "END_TURN";
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.forest_of_dreams.bot;
+
+import io.github.forest_of_dreams.enums.PieceAlignment;
+import io.github.forest_of_dreams.rules.BoardState;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Headless search benchmark on fixed positions taken from DemoRoom's opening layout.
+ * For 1, 2, 4, ... up to the available cores it runs the root-parallel MCTS for a fixed wall-clock budget per
+ * decision and prints nodes/s and the speed-up over one thread. Needs no Gdx context.
+ * Usage: BotBenchmark [msPerDecision] [decisionsPerPosition]
+ */
+public final class BotBenchmark {
+    private BotBenchmark() {}
+
+    public static void main(String[] args) {
+        long msPerDecision = args.length > 0 ? Long.parseLong(args[0]) : 500;
+        int decisions = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+
+        List<BotSearchState> positions = List.of(demoOpening(PieceAlignment.P2), demoOpening(PieceAlignment.P1));
+        System.out.println("Bot benchmark: " + positions.size() + " positions, " + decisions + " x " + msPerDecision
+            + " ms decisions each, up to " + maxThreads + " threads");
+
+        double baseline = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            long nodes = 0;
+            long nanos = 0;
+            StringBuilder choices = new StringBuilder();
+            try (ParallelMctsBotStrategy strategy = new ParallelMctsBotStrategy(threads, new SplittableRandom(42))) {
+                for (BotSearchState position : positions) {
+                    for (int i = 0; i < decisions; i++) {
+                        long start = System.nanoTime();
+                        BotAction action = strategy.chooseAction(position, new BotSearchLimits(msPerDecision, Long.MAX_VALUE));
+                        nanos += System.nanoTime() - start;
+                        nodes += strategy.getLastNodeCount();
+                        if (i == decisions - 1) choices.append(' ').append(action);
+                    }
+                }
+            }
+            double nps = nodes * 1_000_000_000.0 / Math.max(1, nanos);
+            if (threads == 1) baseline = nps;
+            System.out.printf("threads=%2d  nodes/s=%,12.0f  speed-up=%5.2fx  last choices:%s%n",
+                threads, nps, baseline > 0 ? nps / baseline : 0, choices);
+            if (threads == maxThreads) break;
+        }
+    }
+
+    /** DemoRoom's opening pieces and terrain on a 7x5 board; the side to move holds three Wolf cards and 1 mana. */
+    static BotSearchState demoOpening(PieceAlignment sideToMove) {
+        BoardState board = new BoardState(7, 5);
+        // Wolf: 1 hp, 1 dmg, 1 speed, 1 action; WarpMage: 1 hp, 0 dmg, 1 speed, 2 actions
+        board.placeMonster(2, 0, null, PieceAlignment.P1, 1, 1, 1, 1, 1);
+        board.placeMonster(4, 0, null, PieceAlignment.P2, 1, 1, 1, 1, 1);
+        board.placeMonster(1, 4, null, PieceAlignment.P2, 1, 1, 1, 1, 1);
+        board.placeMonster(3, 2, null, PieceAlignment.P1, 1, 0, 1, 2, 2);
+        board.placeTerrain(4, 3, null);
+        board.placeTerrain(2, 1, null);
+        board.placeTerrain(5, 2, null);
+        board.placeTerrain(1, 2, null);
+        SummonOption wolf = new SummonOption(1, 1, 1, 1, 1);
+        return new BotSearchState(board, sideToMove, 1, 1, List.of(wolf, wolf, wolf));
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.forest_of_dreams.bot;
+
+import lombok.Getter;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Search budget for a single bot decision: wall-clock time and number of simulated nodes,
+ * plus an optional cancellation signal polled by strategies while they search.
+ * Whichever runs out (or fires) first stops the search.
+ */
+@Getter
+public final class BotSearchLimits {
+    private static final BooleanSupplier NEVER = () -> false;
+
+    private final long timeBudgetMs;
+    private final long maxNodes;
+    private final BooleanSupplier cancellation;
+
+    public BotSearchLimits(long timeBudgetMs, long maxNodes) {
+        this(timeBudgetMs, maxNodes, NEVER);
+    }
+
+    public BotSearchLimits(long timeBudgetMs, long maxNodes, BooleanSupplier cancellation) {
+        this.timeBudgetMs = Math.max(0, timeBudgetMs);
+        this.maxNodes = Math.max(0, maxNodes);
+        this.cancellation = cancellation == null ? NEVER : cancellation;
+    }
+
+    public boolean isExhausted() {
+        return timeBudgetMs <= 0 || maxNodes <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancellation.getAsBoolean();
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.forest_of_dreams.bot;
+
+import io.github.forest_of_dreams.enums.PieceAlignment;
+import io.github.forest_of_dreams.rules.BitBoard;
+import io.github.forest_of_dreams.rules.BoardState;
+import io.github.forest_of_dreams.rules.RulesEngine;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Headless game position used by bot searches: a BoardState plus side to move, mana and the
+ * summon options of the searching player's hand. Turn ends are simulated (mana +1, actions reset,
+ * hand discarded); cards drawn in future turns and the opponent's hand are unknown and therefore not modelled.
+ */
+public final class BotSearchState {
+    private final BoardState board;
+    private final PieceAlignment handOwner;
+    private final List<SummonOption> hand;
+    private final boolean[] handUsed;
+    @Getter private PieceAlignment sideToMove;
+    private int p1Mana;
+    private int p2Mana;
+    @Getter private PieceAlignment winner; // null while the game is undecided
+    @Getter private int turnsPlayed;
+
+    public BotSearchState(BoardState board, PieceAlignment sideToMove, int p1Mana, int p2Mana, List<SummonOption> hand) {
+        this.board = board;
+        this.sideToMove = sideToMove;
+        this.handOwner = sideToMove;
+        this.hand = List.copyOf(hand);
+        this.handUsed = new boolean[this.hand.size()];
+        this.p1Mana = p1Mana;
+        this.p2Mana = p2Mana;
+    }
+
+    private BotSearchState(BotSearchState other) {
+        this.board = other.board.copy();
+        this.handOwner = other.handOwner;
+        this.hand = other.hand;
+        this.handUsed = other.handUsed.clone();
+        copyScalars(other);
+    }
+
+    /** Deep copy; the copy can be searched independently (e.g. on another thread). */
+    public BotSearchState copy() {
+        return new BotSearchState(this);
+    }
+
+    /** Reset this state to 'other' without allocating; both must come from the same root. */
+    public void copyFrom(BotSearchState other) {
+        board.copyFrom(other.board);
+        System.arraycopy(other.handUsed, 0, handUsed, 0, handUsed.length);
+        copyScalars(other);
+    }
+
+    private void copyScalars(BotSearchState other) {
+        this.sideToMove = other.sideToMove;
+        this.p1Mana = other.p1Mana;
+        this.p2Mana = other.p2Mana;
+        this.winner = other.winner;
+        this.turnsPlayed = other.turnsPlayed;
+    }
+
+    public BoardState getBoard() { return board; }
+
+    public boolean isTerminal() { return winner != null; }
+
+    public int getMana(PieceAlignment side) {
+        return side == PieceAlignment.P1 ? p1Mana : p2Mana;
+    }
+
+    public List<SummonOption> getSummonOptions() { return hand; }
+
+    /** Fill 'out' with every legal action for the side to move; END_TURN is always included last. */
+    public void legalActions(List<BotAction> out) {
+        out.clear();
+        if (isTerminal()) return;
+        int cols = board.getCols();
+        BitBoard own = sideToMove == PieceAlignment.P1 ? board.getP1() : board.getP2();
+        for (int i = own.nextSetBit(0); i >= 0; i = own.nextSetBit(i + 1)) {
+            int r = i / cols, c = i % cols;
+            if (board.getActions(r, c) <= 0) continue;
+            BitBoard hostile = RulesEngine.getAdjacentHostile(board, r, c, sideToMove);
+            for (int j = hostile.nextSetBit(0); j >= 0; j = hostile.nextSetBit(j + 1)) {
+                out.add(BotAction.attack(r, c, j / cols, j % cols));
+            }
+            BitBoard reach = RulesEngine.getReachable(board, r, c, board.getSpeed(r, c));
+            for (int j = reach.nextSetBit(0); j >= 0; j = reach.nextSetBit(j + 1)) {
+                out.add(BotAction.move(r, c, j / cols, j % cols));
+            }
+        }
+        if (sideToMove == handOwner) {
+            int row = RulesEngine.getSummonRow(board, sideToMove);
+            int mana = getMana(sideToMove);
+            for (int k = 0; k < hand.size(); k++) {
+                if (handUsed[k] || hand.get(k).getCost() > mana || isDuplicateOption(k)) continue;
+                for (int c = 0; c < cols; c++) {
+                    if (RulesEngine.canSummon(board, row, c, sideToMove)) out.add(BotAction.summon(k, row, c));
+                }
+            }
+        }
+        out.add(BotAction.endTurn());
+    }
+
+    // Identical unused cards produce identical children; only the first one is offered
+    private boolean isDuplicateOption(int k) {
+        SummonOption option = hand.get(k);
+        for (int j = 0; j < k; j++) {
+            if (!handUsed[j] && hand.get(j).sameStats(option)) return true;
+        }
+        return false;
+    }
+
+    /** Apply a legal action for the side to move. */
+    public void apply(BotAction action) {
+        switch (action.getType()) {
+            case ATTACK -> RulesEngine.applyAttack(board, action.getFromRow(), action.getFromCol(), action.getToRow(), action.getToCol());
+            case MOVE -> {
+                RulesEngine.applyMove(board, action.getFromRow(), action.getFromCol(), action.getToRow(), action.getToCol());
+                if (RulesEngine.isWinningRow(board, sideToMove, action.getToRow())) winner = sideToMove;
+            }
+            case SUMMON -> {
+                SummonOption o = hand.get(action.getOption());
+                board.placeMonster(action.getToRow(), action.getToCol(), null, sideToMove,
+                    o.getHealth(), o.getDamage(), o.getSpeed(), o.getActions(), o.getActions());
+                handUsed[action.getOption()] = true;
+                if (sideToMove == PieceAlignment.P1) p1Mana -= o.getCost(); else p2Mana -= o.getCost();
+            }
+            case END_TURN -> endTurn();
+        }
+    }
+
+    private void endTurn() {
+        // The hand is discarded at end of turn, mirroring PlayerManager.onEndTurn
+        if (sideToMove == handOwner) Arrays.fill(handUsed, true);
+        sideToMove = opponentOf(sideToMove);
+        if (sideToMove == PieceAlignment.P1) p1Mana++; else p2Mana++;
+        board.resetActions(sideToMove);
+        turnsPlayed++;
+    }
+
+    /**
+     * Static evaluation in [0,1] from 'perspective': 1 is a win, 0 a loss. Undecided positions score
+     * material (health + damage) and advancement toward the opponent's summoning row.
+     */
+    public double evaluate(PieceAlignment perspective) {
+        if (winner != null) return winner == perspective ? 1.0 : 0.0;
+        double score = sideScore(perspective) - sideScore(opponentOf(perspective));
+        return 0.5 + 0.5 * Math.tanh(score / 8.0);
+    }
+
+    private double sideScore(PieceAlignment side) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        BitBoard own = side == PieceAlignment.P1 ? board.getP1() : board.getP2();
+        double score = 0;
+        for (int i = own.nextSetBit(0); i >= 0; i = own.nextSetBit(i + 1)) {
+            int r = i / cols, c = i % cols;
+            // Rows advanced from the own summoning row; reaching the goal row is worth 2 points
+            int advanced = side == PieceAlignment.P1 ? r : (rows - 1 - r);
+            score += board.getHealth(r, c) + board.getDamage(r, c) + 2.0 * advanced / Math.max(1, rows - 1);
+        }
+        return score;
+    }
+
+    public static PieceAlignment opponentOf(PieceAlignment side) {
+        return side == PieceAlignment.P1 ? PieceAlignment.P2 : PieceAlignment.P1;
+    }
+}
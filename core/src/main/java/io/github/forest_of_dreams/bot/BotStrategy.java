@@ -0,0 +1,27 @@
+package io.github.forest_of_dreams.bot;
+
+/**
+ * Pluggable decision policy for the bot. Implementations only see a headless BotSearchState
+ * and must not touch Boards, Cards, the EventBus or Gdx; BotManager applies the chosen action to the live game.
+ * BotManager calls strategies from its background search thread, one call at a time.
+ * Strategies that own threads release them in close(); BotManager closes a strategy when it is replaced.
+ */
+public interface BotStrategy extends AutoCloseable {
+    String getName();
+
+    /**
+     * Choose the next action for the side to move in 'root'. 'root' must not be modified.
+     * @return a legal action for root; END_TURN when nothing useful remains
+     */
+    BotAction chooseAction(BotSearchState root, BotSearchLimits limits);
+
+    /** Nodes (simulated positions) visited by the last chooseAction call. */
+    default long getLastNodeCount() { return 0; }
+
+    /** Search throughput of the last chooseAction call, in nodes per second. */
+    default double getLastNodesPerSecond() { return 0; }
+
+    /** Release any resources (e.g. worker threads) held by the strategy. Stateless strategies need nothing. */
+    @Override
+    default void close() {}
+}
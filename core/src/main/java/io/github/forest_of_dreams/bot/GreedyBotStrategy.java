@@ -0,0 +1,56 @@
+package io.github.forest_of_dreams.bot;
+
+import io.github.forest_of_dreams.enums.PieceAlignment;
+import io.github.forest_of_dreams.rules.BitBoard;
+import io.github.forest_of_dreams.rules.BoardState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The original P2 policy expressed as a strategy: ATTACK > MOVE closer to the nearest enemy > SUMMON > END_TURN.
+ * Costs no search budget, so BotManager also uses it once a turn's search budget is spent.
+ */
+public final class GreedyBotStrategy implements BotStrategy {
+    private final List<BotAction> actions = new ArrayList<>();
+
+    @Override
+    public String getName() { return "Greedy"; }
+
+    @Override
+    public BotAction chooseAction(BotSearchState root, BotSearchLimits limits) {
+        root.legalActions(actions);
+        for (BotAction a : actions) {
+            if (a.getType() == BotAction.Type.ATTACK) return a;
+        }
+        BoardState board = root.getBoard();
+        BitBoard enemies = root.getSideToMove() == PieceAlignment.P1 ? board.getP2() : board.getP1();
+        BotAction bestMove = null;
+        int bestGain = 0;
+        for (BotAction a : actions) {
+            if (a.getType() != BotAction.Type.MOVE) continue;
+            int current = nearestEnemyManhattan(board, enemies, a.getFromRow(), a.getFromCol());
+            if (current <= 1) continue; // already adjacent; attack path would have handled
+            int gain = current - nearestEnemyManhattan(board, enemies, a.getToRow(), a.getToCol());
+            if (gain > bestGain) {
+                bestGain = gain;
+                bestMove = a;
+            }
+        }
+        if (bestMove != null) return bestMove;
+        for (BotAction a : actions) {
+            if (a.getType() == BotAction.Type.SUMMON) return a;
+        }
+        return BotAction.endTurn();
+    }
+
+    private static int nearestEnemyManhattan(BoardState board, BitBoard enemies, int r, int c) {
+        int cols = board.getCols();
+        int best = Integer.MAX_VALUE;
+        for (int i = enemies.nextSetBit(0); i >= 0; i = enemies.nextSetBit(i + 1)) {
+            int d = Math.abs(i / cols - r) + Math.abs(i % cols - c);
+            if (d < best) best = d;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.forest_of_dreams.bot;
+
+import io.github.forest_of_dreams.enums.PieceAlignment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Monte-Carlo tree search (UCT) over BotSearchState copies.
+ * Each iteration restores a scratch copy of the root, descends the tree by UCB1, expands one untried
+ * action, plays a short attack-biased random rollout and backs the evaluation up the path.
+ * The search stops at whichever of the time or node budget runs out first; the most visited root
+ * action is returned. A "node" is one simulated position (one applied action).
+ */
+public final class MctsBotStrategy implements BotStrategy {
+    private static final double EXPLORATION = 1.41;
+    private static final int ROLLOUT_TURNS = 4; // turns simulated past the tree before evaluating
+    private static final int ROLLOUT_MAX_PLIES = 64; // safety cap on actions per rollout
+    private static final double ROLLOUT_ATTACK_BIAS = 0.8; // chance to prefer an available attack
+
+    private final SplittableRandom random;
+    private final List<BotAction> scratchActions = new ArrayList<>();
+    private final List<BotAction> scratchAttacks = new ArrayList<>();
+    private long lastNodes = 0;
+    private double lastNodesPerSecond = 0;
+
+    public MctsBotStrategy() {
+        this(new SplittableRandom());
+    }
+
+    public MctsBotStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public String getName() { return "MCTS"; }
+
+    @Override
+    public long getLastNodeCount() { return lastNodes; }
+
+    @Override
+    public double getLastNodesPerSecond() { return lastNodesPerSecond; }
+
+    /** Visit statistics of one root action after a search; reward is from the searching side's perspective. */
+    record RootVisit(BotAction action, int visits, double reward) {}
+
+    @Override
+    public BotAction chooseAction(BotSearchState root, BotSearchLimits limits) {
+        return mostVisited(search(root, limits));
+    }
+
+    /** Most visited action of a set of root statistics, END_TURN if there are none. */
+    static BotAction mostVisited(Iterable<RootVisit> visits) {
+        RootVisit best = null;
+        for (RootVisit v : visits) {
+            if (best == null || v.visits() > best.visits()) best = v;
+        }
+        return best != null ? best.action() : BotAction.endTurn();
+    }
+
+    /** Run one search from 'root' and return the statistics of every expanded root action. */
+    List<RootVisit> search(BotSearchState root, BotSearchLimits limits) {
+        long start = System.nanoTime();
+        long deadline = start + limits.getTimeBudgetMs() * 1_000_000L;
+        PieceAlignment perspective = root.getSideToMove();
+        Node rootNode = new Node(null, null, null);
+        BotSearchState state = root.copy();
+        long nodes = 0;
+
+        // Always complete at least one iteration so the root is expanded
+        do {
+            state.copyFrom(root);
+            Node node = rootNode;
+            // Selection
+            while (!state.isTerminal() && node.isFullyExpanded(state, scratchActions) && !node.children.isEmpty()) {
+                node = node.selectChild();
+                state.apply(node.action);
+                nodes++;
+            }
+            // Expansion
+            if (!state.isTerminal() && !node.untried.isEmpty()) {
+                BotAction a = node.untried.remove(random.nextInt(node.untried.size()));
+                PieceAlignment mover = state.getSideToMove();
+                state.apply(a);
+                nodes++;
+                Node child = new Node(node, a, mover);
+                node.children.add(child);
+                node = child;
+            }
+            // Rollout
+            int turnLimit = state.getTurnsPlayed() + ROLLOUT_TURNS;
+            for (int ply = 0; ply < ROLLOUT_MAX_PLIES && !state.isTerminal() && state.getTurnsPlayed() < turnLimit; ply++) {
+                state.apply(rolloutAction(state));
+                nodes++;
+            }
+            // Backpropagation: each node stores reward from the perspective of the side that moved into it
+            double value = state.evaluate(perspective);
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                n.reward += (n.mover == null || n.mover == perspective) ? value : 1.0 - value;
+            }
+        } while (nodes < limits.getMaxNodes() && System.nanoTime() < deadline && !limits.isCancelled());
+
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        lastNodes = nodes;
+        lastNodesPerSecond = nodes * 1_000_000_000.0 / elapsed;
+
+        List<RootVisit> out = new ArrayList<>(rootNode.children.size());
+        for (Node c : rootNode.children) out.add(new RootVisit(c.action, c.visits, c.reward));
+        return out;
+    }
+
+    // Cheap playout policy: usually take an available attack, otherwise any legal action (END_TURN included)
+    private BotAction rolloutAction(BotSearchState state) {
+        state.legalActions(scratchActions);
+        scratchAttacks.clear();
+        for (BotAction a : scratchActions) {
+            if (a.getType() == BotAction.Type.ATTACK) scratchAttacks.add(a);
+        }
+        if (!scratchAttacks.isEmpty() && random.nextDouble() < ROLLOUT_ATTACK_BIAS) {
+            return scratchAttacks.get(random.nextInt(scratchAttacks.size()));
+        }
+        return scratchActions.get(random.nextInt(scratchActions.size()));
+    }
+
+    private static final class Node {
+        final Node parent;
+        final BotAction action;
+        final PieceAlignment mover; // side that played 'action' (null for the root)
+        final List<Node> children = new ArrayList<>();
+        List<BotAction> untried = null; // filled lazily on the first visit
+        int visits = 0;
+        double reward = 0;
+
+        Node(Node parent, BotAction action, PieceAlignment mover) {
+            this.parent = parent;
+            this.action = action;
+            this.mover = mover;
+        }
+
+        boolean isFullyExpanded(BotSearchState state, List<BotAction> scratch) {
+            if (untried == null) {
+                state.legalActions(scratch);
+                untried = new ArrayList<>(scratch);
+            }
+            return untried.isEmpty();
+        }
+
+        Node selectChild() {
+            double logN = Math.log(Math.max(1, visits));
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node c : children) {
+                double score = c.reward / c.visits + EXPLORATION * Math.sqrt(logN / c.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = c;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.forest_of_dreams.bot;
+
+import io.github.forest_of_dreams.bot.MctsBotStrategy.RootVisit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Root-parallel MCTS: every worker of a fork-join pool searches its own copy of the root state with its
+ * own tree and random stream, and the root statistics are merged by summing visits per action.
+ * Workers share nothing while searching, so throughput scales with cores. The node budget is split
+ * evenly across workers; the time budget is wall-clock and applies to each of them.
+ * The strategy owns its pool: close() it when it is no longer used.
+ */
+public final class ParallelMctsBotStrategy implements BotStrategy {
+    private final ForkJoinPool pool;
+    private final MctsBotStrategy[] workers;
+    private long lastNodes = 0;
+    private double lastNodesPerSecond = 0;
+
+    public ParallelMctsBotStrategy(int parallelism) {
+        this(parallelism, new SplittableRandom());
+    }
+
+    public ParallelMctsBotStrategy(int parallelism, SplittableRandom seed) {
+        int n = Math.max(1, parallelism);
+        this.pool = new ForkJoinPool(n);
+        this.workers = new MctsBotStrategy[n];
+        for (int i = 0; i < n; i++) workers[i] = new MctsBotStrategy(seed.split());
+    }
+
+    public int getParallelism() { return workers.length; }
+
+    @Override
+    public String getName() { return "MCTS x" + workers.length; }
+
+    @Override
+    public long getLastNodeCount() { return lastNodes; }
+
+    @Override
+    public double getLastNodesPerSecond() { return lastNodesPerSecond; }
+
+    @Override
+    public BotAction chooseAction(BotSearchState root, BotSearchLimits limits) {
+        long start = System.nanoTime();
+        BotSearchLimits perWorker = new BotSearchLimits(
+            limits.getTimeBudgetMs(),
+            Math.max(1, limits.getMaxNodes() / workers.length),
+            limits.getCancellation()
+        );
+        List<ForkJoinTask<List<RootVisit>>> tasks = new ArrayList<>(workers.length);
+        for (MctsBotStrategy worker : workers) {
+            // Each worker gets a private copy of the root; nothing mutable is shared between tasks
+            BotSearchState copy = root.copy();
+            tasks.add(pool.submit(() -> worker.search(copy, perWorker)));
+        }
+
+        // Merge root statistics by action (insertion order keeps ties deterministic per run)
+        Map<BotAction, RootVisit> merged = new LinkedHashMap<>();
+        long nodes = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            for (RootVisit v : tasks.get(i).join()) {
+                merged.merge(v.action(), v, (a, b) -> new RootVisit(a.action(), a.visits() + b.visits(), a.reward() + b.reward()));
+            }
+            nodes += workers[i].getLastNodeCount();
+        }
+
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        lastNodes = nodes;
+        lastNodesPerSecond = nodes * 1_000_000_000.0 / elapsed;
+        return MctsBotStrategy.mostVisited(merged.values());
+    }
+
+    // Running tasks finish; the pool's threads exit once idle
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.forest_of_dreams.bot;
+
+import lombok.Getter;
+
+/**
+ * Plain stat block of a summon card available to the searching player, detached from the Card object
+ * so it can be used by simulations off the render thread.
+ */
+@Getter
+public final class SummonOption {
+    private final int cost;
+    private final int health;
+    private final int damage;
+    private final int speed;
+    private final int actions;
+
+    public SummonOption(int cost, int health, int damage, int speed, int actions) {
+        this.cost = cost;
+        this.health = health;
+        this.damage = damage;
+        this.speed = speed;
+        this.actions = actions;
+    }
+
+    boolean sameStats(SummonOption o) {
+        return cost == o.cost && health == o.health && damage == o.damage && speed == o.speed && actions == o.actions;
+    }
+}
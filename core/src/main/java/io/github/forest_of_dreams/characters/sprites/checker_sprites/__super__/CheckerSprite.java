@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import io.github.forest_of_dreams.path_loaders.ImagePathSpritesAndAnimations;
 import io.github.forest_of_dreams.data_objects.Box;
+import io.github.forest_of_dreams.managers.RenderQueue;
 import io.github.forest_of_dreams.ui_objects.Text;
 import io.github.forest_of_dreams.enums.FontType;
 import io.github.forest_of_dreams.game_objects.sprites.CharacterSprite;
@@ -58,4 +59,23 @@ public abstract class CheckerSprite extends CharacterSprite {
             text.render(batch, zLevel, isPaused, x + text.getX(), y + text.getY());
         }
     }
+
+    // The name label lives on z=2 regardless of the sprite's own z
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused) {
+        for (int z : getZs()) {
+            queue.setZ(z);
+            super.render(queue, z, isPaused);
+        }
+        text.enqueue(queue, isPaused);
+    }
+
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused, int x, int y) {
+        for (int z : getZs()) {
+            queue.setZ(z);
+            super.render(queue, z, isPaused, x, y);
+        }
+        text.enqueue(queue, isPaused, x + text.getX(), y + text.getY());
+    }
 }
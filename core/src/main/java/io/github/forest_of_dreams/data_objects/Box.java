@@ -1,14 +1,21 @@
 package io.github.forest_of_dreams.data_objects;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter @Setter
 public class Box {
     private int x;
     private int y;
     private int width;
     private int height;
+    // Run after x, y, width or height actually changes (e.g. the click index re-indexing the owner)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private List<Runnable> changeListeners = null;
 
     public Box(int x, int y, int width, int height) {
         this.x = x;
@@ -16,4 +23,50 @@ public class Box {
         this.width = width;
         this.height = height;
     }
+
+    public void setX(int x) {
+        if (this.x == x) return;
+        this.x = x;
+        notifyChanged();
+    }
+
+    public void setY(int y) {
+        if (this.y == y) return;
+        this.y = y;
+        notifyChanged();
+    }
+
+    public void setWidth(int width) {
+        if (this.width == width) return;
+        this.width = width;
+        notifyChanged();
+    }
+
+    public void setHeight(int height) {
+        if (this.height == height) return;
+        this.height = height;
+        notifyChanged();
+    }
+
+    public void addChangeListener(Runnable listener) {
+        if (changeListeners == null) changeListeners = new ArrayList<>(1);
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(Runnable listener) {
+        if (changeListeners == null) return;
+        // Identity removal: the same listener may be attached once per registration
+        for (int i = 0; i < changeListeners.size(); i++) {
+            if (changeListeners.get(i) == listener) {
+                changeListeners.remove(i);
+                break;
+            }
+        }
+        if (changeListeners.isEmpty()) changeListeners = null;
+    }
+
+    private void notifyChanged() {
+        if (changeListeners == null) return;
+        for (int i = 0; i < changeListeners.size(); i++) changeListeners.get(i).run();
+    }
 }
@@ -5,5 +5,7 @@ public enum InputFunction {
     PAUSE_MENU, // FIXED
     EXIT_GAME, // FIXED
     CONFIRM_SELECTION, // FIXED (Enter)
+    TOGGLE_PROFILER, // FIXED (F3)
+    DUMP_PROFILER, // FIXED (F4)
     UNBOUND;
 }
@@ -9,7 +9,9 @@ public enum InputKey {
     MOUSE_RIGHT(Input.Buttons.RIGHT, false),
     ESCAPE(Input.Keys.ESCAPE, true),
     ENTER(Input.Keys.ENTER, true),
-    Q(Input.Keys.Q, true);
+    Q(Input.Keys.Q, true),
+    F3(Input.Keys.F3, true),
+    F4(Input.Keys.F4, true);
 
     private final int keyCode;
     private final boolean isKey;
@@ -6,10 +6,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import io.github.forest_of_dreams.enums.*;
 import io.github.forest_of_dreams.interfaces.CustomBox;
 import io.github.forest_of_dreams.managers.InteractionManager;
-import io.github.forest_of_dreams.managers.ZIndexRegistry;
+import io.github.forest_of_dreams.managers.RenderQueue;
 import io.github.forest_of_dreams.managers.TurnManager;
 import io.github.forest_of_dreams.multiplayer.EventBus;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.rules.BitBoard;
+import io.github.forest_of_dreams.rules.BoardState;
+import io.github.forest_of_dreams.rules.RulesEngine;
 import io.github.forest_of_dreams.ui_objects.Text;
 import io.github.forest_of_dreams.utils.ColorSettings;
 import io.github.forest_of_dreams.data_objects.Box;
@@ -32,9 +36,23 @@ public class Board extends HigherOrderTexture {
     @Getter private final int PLOT_HEIGHT;
     private final Renderable[][] board;
     private final GamePiece [][] gamePieces;
+    // Headless mirror of the grid used for rule resolution (kept in sync by setGamePiecePos)
+    private final BoardState state;
     private final BoardIdentifierSymbol[] rowIdentifierSymbols;
     private final BoardIdentifierSymbol[] colIdentifierSymbols;
 
+    // Highlight caching: plot highlight/candidate flags are recomputed only when one of these stamps changes
+    private static final GameEventType[] HIGHLIGHT_EVENTS = {
+        GameEventType.PIECE_SPAWNED, GameEventType.PIECE_MOVED, GameEventType.PIECE_ATTACKED,
+        GameEventType.PIECE_DIED, GameEventType.ACTION_SPENT, GameEventType.TURN_STARTED
+    };
+    private static boolean highlightListenerRegistered = false;
+    private static int highlightEventVersion = 0;
+    private int gridVersion = 0;
+    private int seenGridVersion = -1;
+    private int seenEventVersion = -1;
+    private int seenSelectionVersion = -1;
+
     /** Notify all monster pieces on this board that a turn has started for the given player. */
     public void notifyTurnStartedForPieces(PieceAlignment player) {
         for (int r = 0; r < ROWS; r++) {
@@ -78,6 +96,7 @@ public class Board extends HigherOrderTexture {
         colIdentifierSymbols = new BoardIdentifierSymbol[COLS];
         board = new Renderable[ROWS][COLS];
         gamePieces = new GamePiece[ROWS][COLS];
+        state = new BoardState(ROWS, COLS);
         setBounds(new Box(x, y, PLOT_WIDTH*COLS, PLOT_HEIGHT*ROWS));
 
         Arrays.stream(gamePieces).forEach(a -> Arrays.fill(a, null));
@@ -88,22 +107,56 @@ public class Board extends HigherOrderTexture {
             }
         }
         setBoardIdentifierSymbols();
+        registerHighlightListenerIfNeeded();
+    }
+
+    // One static listener shared by all boards; it only bumps a counter, so it never retains a Board
+    private static void registerHighlightListenerIfNeeded() {
+        if (highlightListenerRegistered) return;
+        highlightListenerRegistered = true;
+        for (GameEventType t : HIGHLIGHT_EVENTS) {
+            EventBus.register(t, evt -> highlightEventVersion++);
+        }
+    }
+
+    /** Recompute plot highlights and candidate markers only if selection, events or the grid changed since last frame. */
+    private void refreshHighlightsIfDirty() {
+        int selectionVersion = InteractionManager.getSelectionVersion();
+        if (seenGridVersion == gridVersion
+            && seenEventVersion == highlightEventVersion
+            && seenSelectionVersion == selectionVersion) return;
+        seenGridVersion = gridVersion;
+        seenEventVersion = highlightEventVersion;
+        seenSelectionVersion = selectionVersion;
+        updateCandidateMoveSpots();
+        updatePlotHighlights();
     }
 
     // --- Compact health overlay helpers ---
     private void renderHpOverlay(SpriteBatch batch, int zLevel, int absX, int absY, GamePiece gp, Set<UUID> seen) {
-        if (!(gp instanceof MonsterGamePiece mgp)) return;
+        Text healthIndicatorText = updateHpText(gp, zLevel + 3, seen);
+        if (healthIndicatorText == null) return;
+        // Only render overlay elements during the text's own z-layer pass to avoid overdraw ordering issues
+        if (!healthIndicatorText.getZs().contains(zLevel)) {
+            return;
+        }
+        drawHpOverlay(batch, zLevel, absX, absY, healthIndicatorText);
+    }
+
+    // Create or refresh the HP label of a damaged piece; null when the piece needs no overlay
+    private Text updateHpText(GamePiece gp, int zForNew, Set<UUID> seen) {
+        if (!(gp instanceof MonsterGamePiece mgp)) return null;
         GamePieceStats st = mgp.getStats();
         int cur = st.getCurrentHealth();
         int max = st.getMaxHealth();
-        if (cur >= max) return; // full health -> no overlay
+        if (cur >= max) return null; // full health -> no overlay
         UUID id = mgp.getId();
         seen.add(id);
         Text healthIndicatorText = hpTexts.get(id);
         String label = cur + "/" + max;
         int fontPx = Math.max(7, (int)(PLOT_HEIGHT * 0.16f));
         if (healthIndicatorText == null) {
-            healthIndicatorText = new Text(label, FontType.WINDOW, 0, 0, zLevel+3, Color.WHITE);
+            healthIndicatorText = new Text(label, FontType.WINDOW, 0, 0, zForNew, Color.WHITE);
             healthIndicatorText.withFontSize(fontPx);
             hpTexts.put(id, healthIndicatorText);
             hpCache.put(id, cur);
@@ -115,10 +168,10 @@ public class Board extends HigherOrderTexture {
                 hpCache.put(id, cur);
             }
         }
-        // Only render overlay elements during the text's own z-layer pass to avoid overdraw ordering issues
-        if (!healthIndicatorText.getZs().contains(zLevel)) {
-            return;
-        }
+        return healthIndicatorText;
+    }
+
+    private void drawHpOverlay(SpriteBatch batch, int zLevel, int absX, int absY, Text healthIndicatorText) {
         // Position at bottom-left of plot with padding
         int tx = absX + HP_PADDING_X;
         int ty = absY + HP_PADDING_Y;
@@ -134,6 +187,18 @@ public class Board extends HigherOrderTexture {
         healthIndicatorText.render(batch, zLevel, false, tx, ty);
     }
 
+    // Queue variant: the overlay is recorded once, at the text's z, if the board covers that level
+    private void enqueueHpOverlay(RenderQueue queue, List<Integer> zs, int absX, int absY, GamePiece gp, Set<UUID> seen) {
+        if (zs.isEmpty()) return;
+        // New labels sit 3 levels above the board's lowest z, as when created during the first z pass
+        Text healthIndicatorText = updateHpText(gp, zs.get(0) + 3, seen);
+        if (healthIndicatorText == null) return;
+        int textZ = healthIndicatorText.getZs().get(0);
+        if (!zs.contains(textZ)) return;
+        queue.setZ(textZ);
+        drawHpOverlay(queue, textZ, absX, absY, healthIndicatorText);
+    }
+
     private void cleanupStaleHpTexts(Set<UUID> seen) {
         if (hpTexts.isEmpty()) return;
         Iterator<Map.Entry<UUID, Text>> it = hpTexts.entrySet().iterator();
@@ -176,8 +241,6 @@ public class Board extends HigherOrderTexture {
                 replacePlotAtPos(row, col, plot);
             }
         }
-        // Ensure Board is re-indexed for z-bucket rendering after plots are initialized
-        ZIndexRegistry.notifyZChanged(this);
     }
 
     public int[] getPixelSize() {
@@ -212,25 +275,18 @@ public class Board extends HigherOrderTexture {
                 GRID_DIRECTION.COLUMN,
                 true
             ));
-        // Board now contains label Texts at z=0; ensure z-buckets reindex
-        ZIndexRegistry.notifyZChanged(this);
     }
 
     // Update plot highlighting by comparing this board's plots with the InteractionManager's active targets.
     private void updatePlotHighlights() {
         boolean active = InteractionManager.hasActiveSelection();
-        List<CustomBox> targets = InteractionManager.getActiveTargets();
+        Set<CustomBox> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (active) targets.addAll(InteractionManager.getActiveTargets());
         for (int row = 0; row < ROWS; row++) {
             for (int col = 0; col < COLS; col++) {
                 Renderable r = board[row][col];
                 if (r instanceof Plot p) {
-                    boolean shouldHighlight = false;
-                    if (active && !targets.isEmpty()) {
-                        for (CustomBox b : targets) {
-                            if (b == p) { shouldHighlight = true; break; }
-                        }
-                    }
-                    p.setHighlighted(shouldHighlight);
+                    p.setHighlighted(targets.contains(p));
                 }
             }
         }
@@ -238,42 +294,30 @@ public class Board extends HigherOrderTexture {
 
     // Mark candidate move plots (white dots) and attack plots (red glow) when a movement source is active
     private void updateCandidateMoveSpots() {
+        BitBoard reachable = null;
+        BitBoard attackables = null;
         Object src = InteractionManager.getActiveSource();
-        // Clear all by default
-        for (int row = 0; row < ROWS; row++) {
-            for (int col = 0; col < COLS; col++) {
-                Renderable r = board[row][col];
-                if (r instanceof Plot p) {
-                    p.setCandidate(false);
-                    p.setAttackCandidate(false);
-                }
+        // Ensure the source plot belongs to this board and holds a piece of the current player
+        int[] sIdx = (src instanceof Plot plot) ? getIndicesOfPlot(plot) : null;
+        if (sIdx != null) {
+            int sr = sIdx[0], sc = sIdx[1];
+            GamePiece gp = getGamePieceAtPos(sr, sc);
+            if (gp instanceof MonsterGamePiece mgp && mgp.getAlignment() == TurnManager.getCurrentPlayer()) {
+                int speed = mgp.getStats().getSpeed();
+                // Bitboard queries use separate scratch buffers, so both results stay valid together
+                reachable = RulesEngine.getReachable(state, sr, sc, speed);
+                attackables = RulesEngine.getAdjacentHostile(state, sr, sc, mgp.getAlignment());
             }
         }
-        if (!(src instanceof Plot plot)) return;
-        // Ensure the source plot belongs to this board
-        int[] sIdx = getIndicesOfPlot(plot);
-        if (sIdx == null) return;
-        int sr = sIdx[0], sc = sIdx[1];
-        GamePiece gp = getGamePieceAtPos(sr, sc);
-        if (!(gp instanceof MonsterGamePiece mgp)) return;
-        if (mgp.getAlignment() != TurnManager.getCurrentPlayer()) return;
-        int speed = mgp.getStats().getSpeed();
-        List<Plot> reachable = getReachablePlots(sr, sc, speed);
-        List<Plot> attackables = getAdjacentHostilePlots(sr, sc, ((MonsterGamePiece) gp).getAlignment());
+        // Assign each plot's final flags once so indicator animations are not restarted by a clear-then-set
         for (int row = 0; row < ROWS; row++) {
             for (int col = 0; col < COLS; col++) {
                 Renderable r = board[row][col];
                 if (r instanceof Plot p) {
-                    boolean isAttack = false;
-                    for (Plot a : attackables) { if (a == p) { isAttack = true; break; } }
-                    if (isAttack) {
-                        p.setAttackCandidate(true);
-                        p.setCandidate(false); // no dot on enemies
-                        continue;
-                    }
-                    boolean moveCand = false;
-                    for (Plot q : reachable) { if (q == p) { moveCand = true; break; } }
-                    p.setCandidate(moveCand);
+                    int i = state.index(row, col);
+                    boolean isAttack = attackables != null && attackables.get(i);
+                    p.setAttackCandidate(isAttack);
+                    p.setCandidate(!isAttack && reachable != null && reachable.get(i)); // no dot on enemies
                 }
             }
         }
@@ -291,15 +335,8 @@ public class Board extends HigherOrderTexture {
      * Resolve the GamePiece currently occupying the given Plot instance, or null if none.
      */
     public GamePiece getGamePieceAtPlot(Plot plot) {
-        if (plot == null) return null;
-        for (int row = 0; row < ROWS; row++) {
-            for (int col = 0; col < COLS; col++) {
-                if (board[row][col] == plot) {
-                    return gamePieces[row][col];
-                }
-            }
-        }
-        return null;
+        if (!ownsPlot(plot)) return null;
+        return gamePieces[plot.getRow()][plot.getCol()];
     }
 
     /**
@@ -310,17 +347,8 @@ public class Board extends HigherOrderTexture {
         if (plot == null || alignment == null) return false;
         int[] idx = getIndicesOfPlot(plot);
         if (idx == null) return false;
-        // must be empty
-        if (getGamePieceAtPos(idx[0], idx[1]) != null) return false;
-        // row policy
-        switch (alignment) {
-            case P1:
-                return idx[0] == 0;
-            case P2:
-                return idx[0] == ROWS - 1;
-            default:
-                return false;
-        }
+        // must be empty and on the alignment's summon row
+        return RulesEngine.canSummon(state, idx[0], idx[1], alignment);
     }
 
     /**
@@ -328,21 +356,25 @@ public class Board extends HigherOrderTexture {
      * @return int[]{row, col} if found, otherwise null.
      */
     public int[] getIndicesOfPlot(Plot plot) {
-        if (plot == null) return null;
-        for (int row = 0; row < ROWS; row++) {
-            for (int col = 0; col < COLS; col++) {
-                if (board[row][col] == plot) {
-                    return new int[]{row, col};
-                }
-            }
-        }
-        return null;
+        if (!ownsPlot(plot)) return null;
+        return new int[]{plot.getRow(), plot.getCol()};
+    }
+
+    // O(1) membership check: the plot's stored grid position must point back at the same instance on this board
+    private boolean ownsPlot(Plot plot) {
+        if (plot == null) return false;
+        int row = plot.getRow(), col = plot.getCol();
+        if (row < 0 || row >= ROWS || col < 0 || col >= COLS) return false;
+        return board[row][col] == plot;
     }
 
     public void removePlotAtPos(int row, int col) {
         Renderable renderable = board[row][col];
         getRenderables().remove(renderable);
+        if (renderable instanceof Plot old) old.setGridPosition(-1, -1);
         board[row][col] = EmptyTexture.get(PLOT_WIDTH*col, PLOT_HEIGHT*row, PLOT_WIDTH, PLOT_HEIGHT);
+        // Cached highlights may still reference the removed plot
+        gridVersion++;
     }
 
     public void removeGamePieceAtPos(int row, int col) {
@@ -352,8 +384,41 @@ public class Board extends HigherOrderTexture {
     public void setGamePiecePos(int row, int col, GamePiece gamePiece) {
         checkBoardPosition(row, col);
         gamePieces[row][col] = gamePiece;
-        // A piece sprite affects z coverage; re-index Board
-        ZIndexRegistry.notifyZChanged(this);
+        syncStateCell(row, col, gamePiece);
+        gridVersion++;
+    }
+
+    // Mirror a grid cell into the headless BoardState
+    private void syncStateCell(int row, int col, GamePiece gamePiece) {
+        if (gamePiece == null) {
+            state.clear(row, col);
+        } else if (gamePiece instanceof MonsterGamePiece mgp) {
+            state.placeMonster(
+                row, col,
+                mgp.getId(),
+                mgp.getAlignment(),
+                mgp.getStats().getCurrentHealth(),
+                mgp.getEffectiveDamage(),
+                mgp.getEffectiveSpeed(),
+                getRemainingActions(mgp),
+                mgp.getEffectiveActions()
+            );
+        } else {
+            state.placeTerrain(row, col, gamePiece.getId());
+        }
+    }
+
+    /**
+     * Headless copy of this board's grid with up-to-date piece stats (health, effective stats,
+     * remaining actions). Safe to mutate via RulesEngine for simulations; never affects this Board.
+     */
+    public BoardState snapshotState() {
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                syncStateCell(r, c, gamePieces[r][c]);
+            }
+        }
+        return state.copy();
     }
 
     public void moveGamePiece(int currentRow, int currentCol, int newRow, int newCol) {
@@ -370,15 +435,7 @@ public class Board extends HigherOrderTexture {
             mgp.notifySpawned(row, col);
         }
         // Emit PIECE_SPAWNED when a piece is added to the board
-        EventBus.emit(
-                GameEventType.PIECE_SPAWNED,
-                Map.of(
-                        "pieceId", gamePiece.getId().toString(),
-                        "owner", gamePiece.getAlignment().name(),
-                        "row", row,
-                        "col", col
-                )
-        );
+        EventBus.emit(new GameEvents.PieceSpawned(gamePiece.getId(), gamePiece.getAlignment(), row, col));
     }
 
     private void replacePlotAtPos(int row, int col, Renderable newRenderable) {
@@ -387,6 +444,7 @@ public class Board extends HigherOrderTexture {
 
         Renderable renderable = board[row][col];
         getRenderables().remove(renderable);
+        if (renderable instanceof Plot old && old != newRenderable) old.setGridPosition(-1, -1);
 
         // Set the child's relative position within the board grid for correct hit-testing
         if (newRenderable.getBounds() != null) {
@@ -394,8 +452,10 @@ public class Board extends HigherOrderTexture {
             newRenderable.getBounds().setY(row * PLOT_HEIGHT);
         }
         newRenderable.setParent(getBounds());
+        if (newRenderable instanceof Plot plot) plot.setGridPosition(row, col);
         board[row][col] = newRenderable;
         getRenderables().add(newRenderable);
+        gridVersion++;
 
         // If this is a Plot, wire it for movement multi-interaction
         if (newRenderable instanceof Plot plot) {
@@ -405,13 +465,11 @@ public class Board extends HigherOrderTexture {
                 ClickableEffectData.getMulti(ClickableTargetType.PLOT, 1)
             );
         }
-        // Board's z coverage may have changed; re-index in z-buckets
-        ZIndexRegistry.notifyZChanged(this);
     }
 
     // Helpers for movement reachability and occupancy
     public boolean isOccupied(int row, int col) {
-        return getGamePieceAtPos(row, col) != null;
+        return state.isOccupied(row, col);
     }
 
     /**
@@ -422,55 +480,26 @@ public class Board extends HigherOrderTexture {
     public List<Plot> getReachablePlots(int row, int col, int speed) {
         List<Plot> out = new ArrayList<>();
         if (speed <= 0) return out;
-        boolean[][] visited = new boolean[ROWS][COLS];
-        int[][] dist = new int[ROWS][COLS];
-        for (int r = 0; r < ROWS; r++) Arrays.fill(dist[r], -1);
-        ArrayDeque<int[]> q = new ArrayDeque<>();
-        q.add(new int[]{row, col});
-        visited[row][col] = true;
-        dist[row][col] = 0;
-        int[][] dirs = new int[][]{{1,0},{-1,0},{0,1},{0,-1}};
-        while (!q.isEmpty()) {
-            int[] cur = q.removeFirst();
-            int cr = cur[0], cc = cur[1];
-            int cd = dist[cr][cc];
-            if (cd >= speed) continue; // cannot step further
-            for (int[] d : dirs) {
-                int nr = cr + d[0];
-                int nc = cc + d[1];
-                if (nr < 0 || nr >= ROWS || nc < 0 || nc >= COLS) continue;
-                if (visited[nr][nc]) continue;
-                // Block stepping into occupied cells
-                if (isOccupied(nr, nc)) continue;
-                visited[nr][nc] = true;
-                dist[nr][nc] = cd + 1;
-                q.addLast(new int[]{nr, nc});
-                // Exclude origin (handled by cd>=0 and origin has dist 0)
-                if (!(nr == row && nc == col)) {
-                    Renderable r = board[nr][nc];
-                    if (r instanceof Plot p) out.add(p);
-                }
-            }
+        BitBoard reachable = RulesEngine.getReachable(state, row, col, speed);
+        for (int i = reachable.nextSetBit(0); i >= 0; i = reachable.nextSetBit(i + 1)) {
+            Renderable r = board[i / COLS][i % COLS];
+            if (r instanceof Plot p) out.add(p);
         }
         return out;
     }
 
+    /** Allocation-free check whether (toRow,toCol) is an empty cell reachable from (fromRow,fromCol) within speed. */
+    public boolean isReachable(int fromRow, int fromCol, int toRow, int toCol, int speed) {
+        return RulesEngine.isReachable(state, fromRow, fromCol, toRow, toCol, speed);
+    }
+
     /** Return adjacent hostile plots (cardinal) around (row,col). */
     public List<Plot> getAdjacentHostilePlots(int row, int col, PieceAlignment friendlyAlignment) {
         List<Plot> out = new ArrayList<>();
-        int[][] dirs = new int[][]{{1,0},{-1,0},{0,1},{0,-1}};
-        for (int[] d : dirs) {
-            int nr = row + d[0];
-            int nc = col + d[1];
-            if (nr < 0 || nr >= ROWS || nc < 0 || nc >= COLS) continue;
-            GamePiece gp = getGamePieceAtPos(nr, nc);
-            if (gp instanceof MonsterGamePiece mgp) {
-                        if (mgp.getAlignment() != friendlyAlignment) {
-                    Renderable r = board[nr][nc];
-                    if (r instanceof Plot p) out.add(p);
-                }
-                // Future: handle opposite case if playing as P2, etc.
-            }
+        BitBoard hostile = RulesEngine.getAdjacentHostile(state, row, col, friendlyAlignment);
+        for (int i = hostile.nextSetBit(0); i >= 0; i = hostile.nextSetBit(i + 1)) {
+            Renderable r = board[i / COLS][i % COLS];
+            if (r instanceof Plot p) out.add(p);
         }
         return out;
     }
@@ -506,14 +535,7 @@ public class Board extends HigherOrderTexture {
         int left = Math.max(0, getRemainingActions(mgp) - 1);
         mgp.updateData(GamePieceData.ACTIONS_REMAINING, left);
         // Emit ACTION_SPENT with remaining actions
-        EventBus.emit(
-                GameEventType.ACTION_SPENT,
-                Map.of(
-                        "pieceId", mgp.getId().toString(),
-                        "owner", mgp.getAlignment().name(),
-                        "remaining", left
-                )
-        );
+        EventBus.emit(new GameEvents.ActionSpent(mgp.getId(), mgp.getAlignment(), left));
     }
 
     private void handlePlotMove(HashMap<Integer, CustomBox> entities) {
@@ -533,40 +555,19 @@ public class Board extends HigherOrderTexture {
 
         // Attack branch: adjacent hostile in 4-dir
         GamePiece targetPiece = getGamePieceAtPos(dr, dc);
-        int manhattan = Math.abs(dr - sr) + Math.abs(dc - sc);
-        if (targetPiece instanceof MonsterGamePiece enemy && enemy.getAlignment() != mgp.getAlignment() && manhattan == 1) {
+        if (RulesEngine.canAttack(state, sr, sc, dr, dc) && targetPiece instanceof MonsterGamePiece enemy) {
             int dmg = getAttackDamage(mgp, sr, sc);
             enemy.getStats().dealDamage(dmg);
             // Ability notifications
             try { mgp.notifyAttack(enemy, dmg); } catch (Exception ignored) {}
             try { enemy.notifyDamaged(dmg, mgp); } catch (Exception ignored) {}
             // Emit attack event
-            EventBus.emit(
-                    GameEventType.PIECE_ATTACKED,
-                    Map.of(
-                            "attackerId", mgp.getId().toString(),
-                            "defenderId", enemy.getId().toString(),
-                            "row", dr,
-                            "col", dc,
-                            "attackerRow", sr,
-                            "attackerCol", sc,
-                            "defenderRow", dr,
-                            "defenderCol", dc,
-                            "damage", dmg
-                    )
-            );
+            EventBus.emit(new GameEvents.PieceAttacked(mgp.getId(), enemy.getId(), sr, sc, dr, dc, dmg));
             if (enemy.getStats().getCurrentHealth() <= 0) {
                 // Notify before removal
                 try { enemy.notifyDied(); } catch (Exception ignored) {}
                 removeGamePieceAtPos(dr, dc);
-                EventBus.emit(
-                        GameEventType.PIECE_DIED,
-                        Map.of(
-                                "pieceId", enemy.getId().toString(),
-                                "row", dr,
-                                "col", dc
-                        )
-                );
+                EventBus.emit(new GameEvents.PieceDied(enemy.getId(), dr, dc));
             }
             spendAction(mgp);
             return;
@@ -574,35 +575,20 @@ public class Board extends HigherOrderTexture {
 
         // Move branch: empty destination within reach by Speed
         int speed = mgp.getEffectiveSpeed();
-        java.util.List<Plot> reachable = getReachablePlots(sr, sc, speed);
-        boolean ok = false;
-        for (Plot p : reachable) { if (p == dst) { ok = true; break; } }
-        if (!ok) return;
-        if (isOccupied(dr, dc)) return; // safety
+        if (!RulesEngine.canMove(state, sr, sc, dr, dc, speed)) return;
         moveGamePiece(sr, sc, dr, dc);
         mgp.updateData(GamePieceData.POSITION, new Position(this, dr, dc));
         // Ability notification for movement
         try { mgp.notifyMoved(sr, sc, dr, dc); } catch (Exception ignored) {}
         // Emit move event
-        EventBus.emit(
-                GameEventType.PIECE_MOVED,
-                Map.of(
-                        "pieceId", mgp.getId().toString(),
-                        "owner", mgp.getAlignment().name(),
-                        "fromRow", sr,
-                        "fromCol", sc,
-                        "toRow", dr,
-                        "toCol", dc
-                )
-        );
+        EventBus.emit(new GameEvents.PieceMoved(mgp.getId(), mgp.getAlignment(), sr, sc, dr, dc));
         spendAction(mgp);
     }
 
     @Override
     public void render(SpriteBatch batch, int zLevel, boolean isPaused) {
-        // Update candidate move spots and selected-target highlights
-        updateCandidateMoveSpots();
-        updatePlotHighlights();
+        // Update candidate move spots and selected-target highlights (cached across z passes and frames)
+        refreshHighlightsIfDirty();
         Set<UUID> seen = new HashSet<>();
         for(int row = 0; row < ROWS; row++) {
             for(int col = 0; col < COLS; col++) {
@@ -626,9 +612,8 @@ public class Board extends HigherOrderTexture {
 
     @Override
     public void render(SpriteBatch batch, int zLevel, boolean isPaused, int x, int y) {
-        // Update candidate move spots and selected-target highlights
-        updateCandidateMoveSpots();
-        updatePlotHighlights();
+        // Update candidate move spots and selected-target highlights (cached across z passes and frames)
+        refreshHighlightsIfDirty();
         Set<UUID> seen = new HashSet<>();
         for(int row = 0; row < ROWS; row++) {
             for(int col = 0; col < COLS; col++) {
@@ -651,4 +636,46 @@ public class Board extends HigherOrderTexture {
         });
         cleanupStaleHpTexts(seen);
     }
+
+    // Single traversal per frame: every plot, piece and label records its own z levels into the queue
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused) {
+        refreshHighlightsIfDirty();
+        List<Integer> zs = getZs();
+        Set<UUID> seen = new HashSet<>();
+        for(int row = 0; row < ROWS; row++) {
+            for(int col = 0; col < COLS; col++) {
+                board[row][col].enqueue(queue, isPaused, col*PLOT_WIDTH, row*PLOT_HEIGHT);
+                GamePiece gp = gamePieces[row][col];
+                if (gp != null) {
+                    enqueueHpOverlay(queue, zs, col * PLOT_WIDTH, row * PLOT_HEIGHT, gp, seen);
+                }
+            }
+        }
+        for (BoardIdentifierSymbol s : rowIdentifierSymbols) s.enqueue(queue, isPaused);
+        for (BoardIdentifierSymbol s : colIdentifierSymbols) s.enqueue(queue, isPaused);
+        cleanupStaleHpTexts(seen);
+    }
+
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused, int x, int y) {
+        refreshHighlightsIfDirty();
+        List<Integer> zs = getZs();
+        Set<UUID> seen = new HashSet<>();
+        for(int row = 0; row < ROWS; row++) {
+            for(int col = 0; col < COLS; col++) {
+                int absX = x + col * (PLOT_WIDTH);
+                int absY = y + row * (PLOT_HEIGHT);
+                board[row][col].enqueue(queue, isPaused, absX, absY);
+                GamePiece gp = gamePieces[row][col];
+                if (gp != null) {
+                    gp.getSprite().enqueue(queue, isPaused, absX, absY);
+                    enqueueHpOverlay(queue, zs, absX, absY, gp, seen);
+                }
+            }
+        }
+        for (BoardIdentifierSymbol s : rowIdentifierSymbols) s.enqueue(queue, isPaused, x + s.getX(), y + s.getY());
+        for (BoardIdentifierSymbol s : colIdentifierSymbols) s.enqueue(queue, isPaused, x + s.getX(), y + s.getY());
+        cleanupStaleHpTexts(seen);
+    }
 }
@@ -1,5 +1,8 @@
 package io.github.forest_of_dreams.game_objects.board;
 import io.github.forest_of_dreams.abilities.Ability;
+import io.github.forest_of_dreams.abilities.AbilityRelay;
+import io.github.forest_of_dreams.abilities.PassiveAbility;
+import io.github.forest_of_dreams.abilities.aura.AuraEngine;
 import io.github.forest_of_dreams.abilities.stats.StatsAccumulator;
 import io.github.forest_of_dreams.abilities.stats.StatsModifier;
 import io.github.forest_of_dreams.abilities.TriggeredAbility;
@@ -36,11 +39,15 @@ public class MonsterGamePiece extends GamePiece {
         if (ability == null) return;
         abilities.add(ability);
         ability.onAttach(this);
+        if (ability instanceof TriggeredAbility trig) AbilityRelay.subscribe(trig);
+        if (ability instanceof PassiveAbility passive) AuraEngine.register(this, passive);
     }
 
     public void removeAbility(Ability ability) {
         if (ability == null) return;
         if (abilities.remove(ability)) {
+            if (ability instanceof TriggeredAbility trig) AbilityRelay.unsubscribe(trig);
+            if (ability instanceof PassiveAbility passive) AuraEngine.unregister(passive);
             try { ability.onDetach(); } catch (Exception ignored) {}
         }
     }
@@ -89,6 +96,8 @@ public class MonsterGamePiece extends GamePiece {
 
     private void detachAllAbilities() {
         for (Ability a : abilities) {
+            if (a instanceof TriggeredAbility trig) AbilityRelay.unsubscribe(trig);
+            if (a instanceof PassiveAbility passive) AuraEngine.unregister(passive);
             try { a.onDetach(); } catch (Exception ignored) {}
         }
         abilities.clear();
@@ -96,40 +105,25 @@ public class MonsterGamePiece extends GamePiece {
         // External abilities should call StatsModifier.clear(), but as a safety, remove by null source does nothing.
     }
 
-    // ---- Effective stats (base + accumulated modifiers) ----
+    // ---- Effective stats (base + accumulated modifier totals) ----
     public int getEffectiveDamage() {
-        int base = getStats().getDamage();
-        int add = 0; float mult = 0f;
-        for (StatsModifier m : statsAccumulator.getAll()) { add += m.addDamage; mult += m.multDamage; }
-        return StatsModifier.applyInt(base, add, mult);
+        return StatsModifier.applyInt(getStats().getDamage(), statsAccumulator.getAddDamage(), statsAccumulator.getMultDamage());
     }
 
     public int getEffectiveSpeed() {
-        int base = getStats().getSpeed();
-        int add = 0; float mult = 0f;
-        for (StatsModifier m : statsAccumulator.getAll()) { add += m.addSpeed; mult += m.multSpeed; }
-        return StatsModifier.applyInt(base, add, mult);
+        return StatsModifier.applyInt(getStats().getSpeed(), statsAccumulator.getAddSpeed(), statsAccumulator.getMultSpeed());
     }
 
     public int getEffectiveActions() {
-        int base = getStats().getActions();
-        int add = 0; float mult = 0f;
-        for (StatsModifier m : statsAccumulator.getAll()) { add += m.addActions; mult += m.multActions; }
-        return StatsModifier.applyInt(base, add, mult);
+        return StatsModifier.applyInt(getStats().getActions(), statsAccumulator.getAddActions(), statsAccumulator.getMultActions());
     }
 
     public int getEffectiveMaxHealth() {
-        int base = getStats().getMaxHealth();
-        int add = 0; float mult = 0f;
-        for (StatsModifier m : statsAccumulator.getAll()) { add += m.addMaxHealth; mult += m.multMaxHealth; }
-        return StatsModifier.applyInt(base, add, mult);
+        return StatsModifier.applyInt(getStats().getMaxHealth(), statsAccumulator.getAddMaxHealth(), statsAccumulator.getMultMaxHealth());
     }
 
     public int getEffectiveCost() {
-        int base = getStats().getCost();
-        int add = 0; float mult = 0f;
-        for (StatsModifier m : statsAccumulator.getAll()) { add += m.addCost; mult += m.multCost; }
-        return StatsModifier.applyInt(base, add, mult);
+        return StatsModifier.applyInt(getStats().getCost(), statsAccumulator.getAddCost(), statsAccumulator.getMultCost());
     }
 
     // Generic interaction triggered by Plot: move this piece one step upwards if possible
@@ -36,6 +36,9 @@ public class Plot extends HigherOrderTexture implements Clickable, TargetFilter
 
     // Board back-reference for movement logic
     private Board boardRef = null;
+    // Grid position on boardRef, maintained by Board (-1 while not placed)
+    @Getter private int row = -1;
+    @Getter private int col = -1;
 
     // Highlighting state
     @Getter
@@ -252,6 +255,11 @@ public class Plot extends HigherOrderTexture implements Clickable, TargetFilter
     // Board back-reference wiring
     public void setBoard(Board board) { this.boardRef = board; }
 
+    void setGridPosition(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
     // TargetFilter: validate movement targets when this plot is the active source
     @Override
     public boolean isValidTargetForEffect(CustomBox box) {
@@ -264,16 +272,16 @@ public class Plot extends HigherOrderTexture implements Clickable, TargetFilter
         // Only allow interactions when the piece alignment matches current player's turn
         if (mgp.getAlignment() != TurnManager.getCurrentPlayer()) return false;
 
-        // Movement candidates: empty plots within BFS reach by Speed
+        int[] dstIdx = boardRef.getIndicesOfPlot(target);
+        if (dstIdx == null) return false;
+
+        // Movement candidates: empty plots within flood-fill reach by Speed
         int speed = mgp.getStats().getSpeed();
-        java.util.List<Plot> reachable = boardRef.getReachablePlots(srcIdx[0], srcIdx[1], speed);
-        for (Plot p : reachable) { if (p == target) return true; }
+        if (boardRef.isReachable(srcIdx[0], srcIdx[1], dstIdx[0], dstIdx[1], speed)) return true;
 
         // Attack candidates: adjacent hostile monster in 4 directions (cardinal)
         GamePiece dstPiece = boardRef.getGamePieceAtPlot(target);
         if (dstPiece instanceof MonsterGamePiece enemy && enemy.getAlignment() != mgp.getAlignment()) {
-            int[] dstIdx = boardRef.getIndicesOfPlot(target);
-            if (dstIdx == null) return false;
             int manhattan = Math.abs(dstIdx[0] - srcIdx[0]) + Math.abs(dstIdx[1] - srcIdx[1]);
             return manhattan == 1;
         }
@@ -17,6 +17,7 @@ import io.github.forest_of_dreams.ui_objects.Text;
 import io.github.forest_of_dreams.utils.GraphicUtils;
 import io.github.forest_of_dreams.utils.SpriteCreator;
 import io.github.forest_of_dreams.managers.InteractionManager;
+import io.github.forest_of_dreams.managers.RenderQueue;
 import io.github.forest_of_dreams.utils.HoverUtils;
 import lombok.Getter;
 import lombok.Setter;
@@ -214,6 +215,30 @@ public class Card extends HigherOrderTexture implements Clickable {
         }
     }
 
+    // Single visit per frame: hover steps once and the overlays are recorded at the card z layer
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused) {
+        int[] abs = calculatePos();
+        enqueueAt(queue, isPaused, abs[0], abs[1]);
+    }
+
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused, int x, int y) {
+        enqueueAt(queue, isPaused, x, y);
+    }
+
+    private void enqueueAt(RenderQueue queue, boolean isPaused, int x, int y) {
+        int hoverOffset = stepHoverAndGetOffset(isPaused, x, y, getWidth(), getHeight());
+        Renderable side = activeSide();
+        side.enqueue(queue, isPaused, x, y + hoverOffset);
+        if (!isPaused && faceUp && side.getZs().contains(zLayer)) {
+            queue.setZ(zLayer);
+            renderTitle(queue, zLayer, x, y + hoverOffset);
+            renderBorderAnimation(queue, zLayer, x, y + hoverOffset);
+            renderExtraOverlays(queue, zLayer, isPaused, x, y + hoverOffset);
+        }
+    }
+
     // Extension hook for subclasses to render additional overlays (e.g., stat numbers)
     // Default: no-op.
     protected void renderExtraOverlays(SpriteBatch batch, int zLevel, boolean isPaused, int x, int y) {}
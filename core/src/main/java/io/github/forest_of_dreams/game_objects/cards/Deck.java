@@ -10,7 +10,7 @@ import io.github.forest_of_dreams.interfaces.CustomBox;
 import io.github.forest_of_dreams.interfaces.OnClick;
 import io.github.forest_of_dreams.managers.SettingsManager;
 import io.github.forest_of_dreams.multiplayer.EventBus;
-import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 import io.github.forest_of_dreams.path_loaders.ImagePathSpritesAndAnimations;
 import io.github.forest_of_dreams.utils.SpriteCreator;
 import io.github.forest_of_dreams.managers.TurnManager;
@@ -82,14 +82,7 @@ public class Deck extends SpriteObject implements Clickable {
         Card c = cards.remove(0);
         hand.addCard(c);
         // Emit CARD_DRAWN
-        EventBus.emit(
-                GameEventType.CARD_DRAWN,
-                Map.of(
-                        "owner", (owner == null ? "UNKNOWN" : owner.name()),
-                        "card", c.getClass().getSimpleName(),
-                        "handSize", hand.getCards().size()
-                )
-        );
+        EventBus.emit(new GameEvents.CardDrawn(owner, c.getClass().getSimpleName(), hand.getCards().size()));
     }
 
     public void shuffle() {
@@ -98,13 +91,7 @@ public class Deck extends SpriteObject implements Clickable {
         discardPile.clear();
         Collections.shuffle(cards, rng);
         // Emit CARD_SHUFFLED
-        EventBus.emit(
-                GameEventType.CARD_SHUFFLED,
-                Map.of(
-                        "owner", (owner == null ? "UNKNOWN" : owner.name()),
-                        "deckSize", cards.size()
-                )
-        );
+        EventBus.emit(new GameEvents.CardShuffled(owner, cards.size()));
     }
 
     public void triggerClickEffect(HashMap<Integer, CustomBox> interactionEntities) {
@@ -5,6 +5,7 @@ import io.github.forest_of_dreams.data_objects.Box;
 import io.github.forest_of_dreams.enums.PieceAlignment;
 import io.github.forest_of_dreams.interfaces.Clickable;
 import io.github.forest_of_dreams.managers.InteractionManager;
+import io.github.forest_of_dreams.managers.RenderQueue;
 import io.github.forest_of_dreams.supers.LowestOrderTexture;
 import io.github.forest_of_dreams.supers.HigherOrderTexture;
 import lombok.Getter;
@@ -101,4 +102,15 @@ public class Hand extends HigherOrderTexture {
             )
         );
     }
+
+    // Cards live in 'cards', not in getRenderables(), so the container walk must visit them itself
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused) {
+        cards.forEach(c -> c.enqueue(queue, isPaused));
+    }
+
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused, int x, int y) {
+        cards.forEach(c -> c.enqueue(queue, isPaused, x + c.getX(), y + c.getY()));
+    }
 }
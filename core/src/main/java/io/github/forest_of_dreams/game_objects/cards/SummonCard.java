@@ -17,12 +17,12 @@ import io.github.forest_of_dreams.managers.PlayerManager;
 import io.github.forest_of_dreams.managers.SettingsManager;
 import io.github.forest_of_dreams.managers.TurnManager;
 import io.github.forest_of_dreams.multiplayer.EventBus;
-import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 import io.github.forest_of_dreams.ui_objects.Text;
 import io.github.forest_of_dreams.utils.Logger;
 import io.github.forest_of_dreams.utils.ColorSettings;
 import com.badlogic.gdx.utils.Align;
-import java.util.Map;
+import lombok.Getter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -36,7 +36,7 @@ import java.util.function.BiConsumer;
 public abstract class SummonCard extends Card implements TargetFilter {
     protected final Board board;
     protected final PieceAlignment alignment;
-    protected final GamePieceStats stats; // unified stats used by both card and resulting piece
+    @Getter protected final GamePieceStats stats; // unified stats used by both card and resulting piece
 
     // Cached stat texts (rendered inside orbs)
     private Text manaText;   // top-right big orb
@@ -152,16 +152,7 @@ public abstract class SummonCard extends Card implements TargetFilter {
                 board.addGamePieceToPos(plotPos[0], plotPos[1], piece);
 
                 // Emit generic CARD_PLAYED
-                EventBus.emit(
-                    GameEventType.CARD_PLAYED,
-                    Map.of(
-                        "card", getCardName(),
-                        "owner", alignment.name(),
-                        "row", plotPos[0],
-                        "col", plotPos[1],
-                        "pieceId", piece.getId().toString()
-                    )
-                );
+                EventBus.emit(new GameEvents.CardPlayed(getCardName(), alignment, plotPos[0], plotPos[1], piece.getId()));
 
                 // Move the card from hand to discard
                 consume();
@@ -0,0 +1,14 @@
+package io.github.forest_of_dreams.input_handlers;
+
+import io.github.forest_of_dreams.enums.settings.InputHandlerData;
+import io.github.forest_of_dreams.interfaces.InputHandler;
+import io.github.forest_of_dreams.managers.FrameProfiler;
+
+import java.util.Map;
+
+public class HandleDumpProfiler implements InputHandler {
+    @Override
+    public void handleInput(Map<InputHandlerData, Object> data) {
+        FrameProfiler.dumpCsv();
+    }
+}
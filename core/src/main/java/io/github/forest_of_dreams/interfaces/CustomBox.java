@@ -11,33 +11,31 @@ public interface CustomBox {
 
     int getHeight();
 
-    // Hit-test using absolute coordinates derived from this element's bounds and its full parent chain.
-    // Falls back to getX()/getY() when bounds are unavailable.
+    // Hit-test using absolute coordinates derived from this element's bounds and its parent offset.
     default boolean inRange(int x, int y) {
-        int absX = getX();
-        int absY = getY();
-
-        if (this instanceof Renderable renderable) {
-            Box bounds = renderable.getBounds();
-            if (bounds != null) {
-                absX = bounds.getX();
-                absY = bounds.getY();
-                // Accumulate all parents' offsets to get absolute position
-                Box parent = renderable.getParent();
-                while (parent != null) {
-                    absX += parent.getX();
-                    absY += parent.getY();
-                    // Walk up if the parent itself has a parent-like container.
-                    // Box is a simple data object, so we cannot query further; break.
-                    // Parents in this engine are represented by Box only one level deep.
-                    // If deeper nesting is required, containers should set child bounds relative to the root parent.
-                    break;
-                }
-            }
-        }
-
+        int absX = getAbsoluteX();
+        int absY = getAbsoluteY();
         boolean inRangeX = absX <= x && x < absX + getWidth();
         boolean inRangeY = absY <= y && y < absY + getHeight();
         return inRangeX && inRangeY;
     }
+
+    // Absolute screen position: bounds plus the parent offset. Parents in this engine are a single Box
+    // with no parent of its own, so that offset is the whole chain; containers set child bounds relative
+    // to the root parent. Falls back to getX()/getY() when bounds are unavailable.
+    default int getAbsoluteX() {
+        if (this instanceof Renderable renderable && renderable.getBounds() != null) {
+            Box parent = renderable.getParent();
+            return renderable.getBounds().getX() + (parent == null ? 0 : parent.getX());
+        }
+        return getX();
+    }
+
+    default int getAbsoluteY() {
+        if (this instanceof Renderable renderable && renderable.getBounds() != null) {
+            Box parent = renderable.getParent();
+            return renderable.getBounds().getY() + (parent == null ? 0 : parent.getY());
+        }
+        return getY();
+    }
 }
@@ -2,6 +2,7 @@ package io.github.forest_of_dreams.interfaces;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import io.github.forest_of_dreams.data_objects.Box;
+import io.github.forest_of_dreams.managers.RenderQueue;
 
 import java.util.List;
 
@@ -14,4 +15,22 @@ public interface Renderable {
     List<Integer> getZs();
     void render(SpriteBatch batch, int zLevel, boolean isPaused);
     void render(SpriteBatch batch, int zLevel, boolean isPaused, int x, int y);
+
+    /**
+     * Record this renderable into the frame's render queue for all of its z levels in one call.
+     * The default replays render() once per own z level; containers override it to visit each child once.
+     */
+    default void enqueue(RenderQueue queue, boolean isPaused) {
+        for (int z : getZs()) {
+            queue.setZ(z);
+            render(queue, z, isPaused);
+        }
+    }
+
+    default void enqueue(RenderQueue queue, boolean isPaused, int x, int y) {
+        for (int z : getZs()) {
+            queue.setZ(z);
+            render(queue, z, isPaused, x, y);
+        }
+    }
 }
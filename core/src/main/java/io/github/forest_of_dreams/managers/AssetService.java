@@ -0,0 +1,97 @@
+package io.github.forest_of_dreams.managers;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import io.github.forest_of_dreams.utils.Logger;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Central asset cache on top of libGDX's AssetManager.
+ * Every user of an asset acquires it and releases it when done; the asset is unloaded (and disposed)
+ * when its last reference is released. acquire() loads synchronously if needed, while preload() queues
+ * assets to be decoded in the background and update() advances that queue from the render thread.
+ * Preloaded assets hold no reference of their own until someone acquires them.
+ * Render thread only.
+ */
+public class AssetService {
+    private static AssetManager manager = null;
+    private static final Map<String, Integer> refs = new HashMap<>();
+    // Loads per frame are bounded to this budget while preloading
+    private static final int UPDATE_BUDGET_MS = 8;
+
+    private static AssetManager manager() {
+        if (manager == null) manager = new AssetManager();
+        return manager;
+    }
+
+    /** Get an asset, loading it now if it is not loaded yet, and take a reference to it. */
+    public static <T> T acquire(String path, Class<T> type) {
+        AssetManager am = manager();
+        if (!am.isLoaded(path, type)) {
+            if (!am.contains(path, type)) am.load(path, type);
+            am.finishLoadingAsset(path);
+        }
+        refs.merge(path, 1, Integer::sum);
+        return am.get(path, type);
+    }
+
+    public static <T> T acquire(AssetDescriptor<T> descriptor) {
+        return acquire(descriptor.fileName, descriptor.type);
+    }
+
+    /** Drop a reference taken with acquire(); the asset is unloaded with its last reference. */
+    public static void release(String path) {
+        Integer count = refs.get(path);
+        if (count == null) return;
+        if (count > 1) {
+            refs.put(path, count - 1);
+            return;
+        }
+        refs.remove(path);
+        if (manager != null && manager.contains(path)) manager.unload(path);
+    }
+
+    /** Queue assets for background loading; already loaded or queued assets are skipped. */
+    public static void preload(Collection<AssetDescriptor<?>> descriptors) {
+        AssetManager am = manager();
+        for (AssetDescriptor<?> d : descriptors) {
+            if (!am.contains(d.fileName, d.type)) am.load(d);
+        }
+    }
+
+    /**
+     * Advance background loading by at most one frame budget.
+     * Returns true once the queue is empty. Failed assets are logged and skipped.
+     */
+    public static boolean update() {
+        if (manager == null) return true;
+        try {
+            return manager.update(UPDATE_BUDGET_MS);
+        } catch (Exception e) {
+            Logger.error("AssetService", "Failed to load asset: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Loading progress of the current queue in [0, 1]; 1 when nothing is queued. */
+    public static float getProgress() {
+        return manager == null ? 1f : manager.getProgress();
+    }
+
+    public static boolean isLoaded(String path) {
+        return manager != null && manager.isLoaded(path);
+    }
+
+    public static int getReferenceCount(String path) {
+        return refs.getOrDefault(path, 0);
+    }
+
+    public static void dispose() {
+        if (manager != null) manager.dispose();
+        manager = null;
+        refs.clear();
+    }
+}
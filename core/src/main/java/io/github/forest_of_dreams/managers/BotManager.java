@@ -1,29 +1,48 @@
 package io.github.forest_of_dreams.managers;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Timer;
-import io.github.forest_of_dreams.cards.WolfCard;
+import io.github.forest_of_dreams.bot.BotAction;
+import io.github.forest_of_dreams.bot.BotSearchLimits;
+import io.github.forest_of_dreams.bot.BotSearchState;
+import io.github.forest_of_dreams.bot.BotStrategy;
+import io.github.forest_of_dreams.bot.GreedyBotStrategy;
+import io.github.forest_of_dreams.bot.ParallelMctsBotStrategy;
+import io.github.forest_of_dreams.bot.SummonOption;
 import io.github.forest_of_dreams.enums.PieceAlignment;
 import io.github.forest_of_dreams.game_objects.board.Board;
 import io.github.forest_of_dreams.game_objects.board.GamePiece;
+import io.github.forest_of_dreams.game_objects.board.GamePieceStats;
 import io.github.forest_of_dreams.game_objects.board.MonsterGamePiece;
 import io.github.forest_of_dreams.game_objects.board.Plot;
+import io.github.forest_of_dreams.game_objects.cards.SummonCard;
 import io.github.forest_of_dreams.enums.GamePieceData;
 import io.github.forest_of_dreams.interfaces.CustomBox;
 import io.github.forest_of_dreams.interfaces.Renderable;
 import io.github.forest_of_dreams.multiplayer.EventBus;
 import io.github.forest_of_dreams.multiplayer.GameEvent;
 import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 import io.github.forest_of_dreams.utils.Logger;
+import lombok.Getter;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 /**
- * Minimal P2 bot that plays on TURN_STARTED for P2.
- * Priority: ATTACK > MOVE > SUMMON. Iterate until no actions remain, then end turn.
+ * P2 bot that plays on TURN_STARTED for P2.
+ * The board is snapshotted into a headless BotSearchState and the configured BotStrategy (root-parallel MCTS by default)
+ * plans the turn on a background thread within the turn's search budget. The planned actions are then
+ * resolved one by one on the render thread through the same Plot/Card click effects a human uses;
+ * if one does not resolve, the rest of the turn is re-planned from a fresh snapshot.
  */
 public final class BotManager {
     private static boolean initialized = false;
@@ -32,6 +51,47 @@ public final class BotManager {
     private static final float DELAY_BEFORE_END = 0.4f;
     private static final float DELAY_BETWEEN_ACTIONS = 0.35f;
     private static final int MAX_ACTIONS_PER_TURN = 50; // safety guard
+    // Smallest search slice per decision while budget remains
+    private static final long MIN_SLICE_MS = 20;
+    private static final long MIN_SLICE_NODES = 500;
+
+    // Decision policy; the greedy fallback is used once the turn's search budget is spent
+    @Getter private static volatile BotStrategy strategy = new ParallelMctsBotStrategy(SettingsManager.bot.searchThreads);
+    private static final BotStrategy fallback = new GreedyBotStrategy();
+
+    // Background planning: one daemon worker searches snapshots; results come back via Gdx.app.postRunnable.
+    // 'generation' is bumped on every cancellation so stale searches, plans and timer steps are dropped.
+    private static final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "bot-search");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final AtomicInteger generation = new AtomicInteger();
+    // Remaining planned actions for this turn (render thread only)
+    private static final Deque<BotAction> plannedActions = new ArrayDeque<>();
+    private static List<SummonCard> plannedSummonCards = List.of();
+
+    // Search budget of the current bot turn (render thread). Each search captures the budget of the turn it was
+    // started for, so a stale search that is still winding down only ever spends its own turn's budget.
+    private static TurnBudget turnBudget = null;
+    @Getter private static double lastTurnNodesPerSecond = 0;
+
+    /**
+     * Search budget and throughput of one bot turn, tagged with the generation it belongs to.
+     * Written by the search worker and read on the render thread; the executor hand-off and
+     * Gdx.app.postRunnable order those accesses, and searches of one turn never overlap.
+     */
+    private static final class TurnBudget {
+        final int gen;
+        long msRemaining = SettingsManager.bot.turnTimeBudgetMs;
+        long nodesRemaining = SettingsManager.bot.turnNodeBudget;
+        long nodes = 0;
+        long searchNanos = 0;
+
+        TurnBudget(int gen) {
+            this.gen = gen;
+        }
+    }
 
     private BotManager() {}
 
@@ -39,12 +99,10 @@ public final class BotManager {
         if (initialized) return;
         initialized = true;
         Consumer<GameEvent> onTurn = (evt) -> {
-            if (evt.getType() != GameEventType.TURN_STARTED) return;
+            if (!(evt instanceof GameEvents.TurnStarted started)) return;
             // Feature flag: bot enabled?
             if (!SettingsManager.debug.enableP2Bot) return;
-            Object p = evt.getData().get("player");
-            if (p == null) return;
-            if (!PieceAlignment.P2.name().equals(p.toString())) return;
+            if (started.player() != PieceAlignment.P2) return;
             // Safety: don't act if paused
             if (GraphicsManager.isPaused()) return;
             // Clear any lingering multi-selection from the human player before bot acts
@@ -52,72 +110,186 @@ public final class BotManager {
                 InteractionManager.cancelSelection();
             }
             // Schedule a small delay before the bot acts (visual breathing room)
-            Timer.schedule(new Timer.Task() {
-                @Override
-                public void run() {
-                    try {
-                        runBotTurn();
-                    } catch (Exception ex) {
-                        Logger.error("BotManager", "Exception during bot turn: " + ex.getMessage());
-                    }
-                }
-            }, DELAY_BEFORE_ACT);
+            cancelTurn();
+            schedule(BotManager::runBotTurn, DELAY_BEFORE_ACT, generation.get());
         };
         EventBus.register(GameEventType.TURN_STARTED, onTurn);
+        // Any turn end (bot, human or room reset) invalidates an in-flight search
+        EventBus.register(GameEventType.TURN_ENDED, evt -> cancelTurn());
+    }
+
+    /**
+     * Replace the bot's decision policy and close the previous one. The close is queued on the search thread,
+     * so a search that is still using the old strategy finishes before its threads are released.
+     */
+    public static void setStrategy(BotStrategy next) {
+        BotStrategy previous = strategy;
+        strategy = next;
+        if (previous != null && previous != next) searchExecutor.execute(previous::close);
     }
 
     private static void runBotTurn() {
-        chainNextAction(0);
+        // Fresh search budget for this turn
+        int gen = generation.get();
+        turnBudget = new TurnBudget(gen);
+        chainNextAction(0, gen);
+    }
+
+    /**
+     * Drop any in-flight search, queued plan and pending bot steps. Called when the turn ends, the game
+     * pauses or the room changes; a running search notices on its next budget check and its result is discarded.
+     */
+    public static void cancelTurn() {
+        generation.incrementAndGet();
+        plannedActions.clear();
+        plannedSummonCards = List.of();
+    }
+
+    /** Restart the bot's turn after an unpause if it was interrupted while P2 was to move. */
+    public static void resumeAfterPause() {
+        if (!SettingsManager.debug.enableP2Bot) return;
+        if (TurnManager.getCurrentPlayer() != PieceAlignment.P2 || getActiveBoards().isEmpty()) return;
+        cancelTurn();
+        schedule(BotManager::runBotTurn, DELAY_BEFORE_ACT, generation.get());
     }
 
-    private static void chainNextAction(int actionsDone) {
+    private static void chainNextAction(int actionsDone, int gen) {
+        if (gen != generation.get()) return;
         // Stop if paused or it's no longer P2's turn (e.g., human ended early)
         if (GraphicsManager.isPaused() || TurnManager.getCurrentPlayer() != PieceAlignment.P2) {
             return;
         }
         if (actionsDone >= MAX_ACTIONS_PER_TURN) {
             Logger.log("BotManager", "Reached max actions safety cap; ending turn");
-            scheduleEndTurn();
+            finishTurn(gen);
             return;
         }
+        if (plannedActions.isEmpty()) {
+            requestPlan(actionsDone, gen);
+        } else {
+            executeNextPlanned(actionsDone, gen);
+        }
+    }
 
-        // Gather boards fresh each iteration
+    /**
+     * Snapshot the live game on the render thread and plan the rest of the turn on the search worker.
+     * The plan is posted back to the render thread and ignored if the turn was cancelled meanwhile.
+     */
+    private static void requestPlan(int actionsDone, int gen) {
+        // Gather boards fresh each plan
         List<Board> boards = getActiveBoards();
         if (boards.isEmpty()) {
             Logger.log("BotManager", "No boards; ending P2 turn");
-            scheduleEndTurn();
+            finishTurn(gen);
             return;
         }
+        // The bot plays on the first board; rooms currently host a single board
+        Board board = boards.get(0);
+        List<SummonCard> summonCards = new ArrayList<>();
+        BotSearchState root = buildSearchState(board, summonCards);
+        // Set by runBotTurn for this generation (chainNextAction returned early otherwise)
+        TurnBudget searchBudget = turnBudget;
+        searchExecutor.execute(() -> {
+            List<BotAction> plan;
+            try {
+                plan = planTurn(root, gen, searchBudget);
+            } catch (Exception ex) {
+                Logger.error("BotManager", "Exception during bot search: " + ex.getMessage());
+                plan = List.of(BotAction.endTurn());
+            }
+            final List<BotAction> result = plan;
+            Gdx.app.postRunnable(() -> {
+                if (gen != generation.get()) return;
+                plannedActions.addAll(result);
+                plannedSummonCards = summonCards;
+                try {
+                    chainNextAction(actionsDone, gen);
+                } catch (Exception ex) {
+                    Logger.error("BotManager", "Exception during bot turn: " + ex.getMessage());
+                }
+            });
+        });
+    }
 
-        // Try one action in priority order
-        if (tryOneAdjacentAttack(boards)) {
-            Logger.log("BotManager", "P2 bot: ATTACK executed (#" + (actionsDone+1) + ")");
-            scheduleNextAction(actionsDone + 1);
-            return;
+    // Search worker: choose actions on a private copy until the strategy ends the turn
+    private static List<BotAction> planTurn(BotSearchState root, int gen, TurnBudget budget) {
+        BooleanSupplier cancelled = () -> gen != generation.get();
+        BotSearchState sim = root.copy();
+        List<BotAction> plan = new ArrayList<>();
+        while (plan.size() < MAX_ACTIONS_PER_TURN && !cancelled.getAsBoolean()) {
+            BotAction action = decide(sim, cancelled, budget);
+            plan.add(action);
+            if (action.getType() == BotAction.Type.END_TURN) break;
+            sim.apply(action);
         }
-        if (tryOneMovementTowardEnemy(boards)) {
-            Logger.log("BotManager", "P2 bot: MOVE executed (#" + (actionsDone+1) + ")");
-            scheduleNextAction(actionsDone + 1);
+        return plan;
+    }
+
+    private static void executeNextPlanned(int actionsDone, int gen) {
+        BotAction action = plannedActions.poll();
+        if (action.getType() == BotAction.Type.END_TURN) {
+            Logger.log("BotManager", "P2 bot: NO MORE ACTIONS; ending turn");
+            finishTurn(gen);
             return;
         }
-        if (tryPlayOneWolfCard(boards)) {
-            Logger.log("BotManager", "P2 bot: SUMMON executed (#" + (actionsDone+1) + ")");
-            scheduleNextAction(actionsDone + 1);
+        List<Board> boards = getActiveBoards();
+        Board board = boards.isEmpty() ? null : boards.get(0);
+        if (board == null || !executeAction(board, action, plannedSummonCards)) {
+            // Live resolution diverged from the simulation (e.g. an ability changed the board): re-plan from a fresh snapshot
+            Logger.log("BotManager", "P2 bot: " + action + " did not resolve; re-planning");
+            plannedActions.clear();
+            scheduleNextAction(actionsDone + 1, gen);
             return;
         }
+        Logger.log("BotManager", "P2 bot: " + action + " executed (#" + (actionsDone+1) + ")");
+        scheduleNextAction(actionsDone + 1, gen);
+    }
+
+    // Run the configured strategy with a slice of the remaining turn budget (greedy once it is spent)
+    private static BotAction decide(BotSearchState root, BooleanSupplier cancelled, TurnBudget budget) {
+        BotSearchLimits limits = new BotSearchLimits(
+            Math.max(budget.msRemaining / 2, Math.min(budget.msRemaining, MIN_SLICE_MS)),
+            Math.max(budget.nodesRemaining / 2, Math.min(budget.nodesRemaining, MIN_SLICE_NODES)),
+            cancelled
+        );
+        BotStrategy active = limits.isExhausted() ? fallback : strategy;
+        long start = System.nanoTime();
+        BotAction action = active.chooseAction(root, limits);
+        long elapsed = System.nanoTime() - start;
+        budget.msRemaining -= elapsed / 1_000_000L;
+        budget.nodesRemaining -= active.getLastNodeCount();
+        budget.nodes += active.getLastNodeCount();
+        budget.searchNanos += elapsed;
+        return action;
+    }
+
+    private static void finishTurn(int gen) {
+        TurnBudget budget = turnBudget;
+        if (budget != null && budget.gen == gen && budget.searchNanos > 0) {
+            lastTurnNodesPerSecond = budget.nodes * 1_000_000_000.0 / budget.searchNanos;
+            Logger.log("BotManager", "P2 bot (" + strategy.getName() + "): " + budget.nodes + " nodes in "
+                + (budget.searchNanos / 1_000_000L) + " ms (" + Math.round(lastTurnNodesPerSecond) + " nodes/s)");
+        }
+        scheduleEndTurn(gen);
+    }
 
-        // Nothing left to do -> end turn
-        Logger.log("BotManager", "P2 bot: NO MORE ACTIONS; ending turn");
-        scheduleEndTurn();
+    private static void scheduleNextAction(final int actionsDone, final int gen) {
+        schedule(() -> chainNextAction(actionsDone, gen), DELAY_BETWEEN_ACTIONS, gen);
     }
 
-    private static void scheduleNextAction(final int actionsDone) {
+    // Timer task that is skipped if the bot turn was cancelled before it fires
+    private static void schedule(Runnable step, float delay, int gen) {
         Timer.schedule(new Timer.Task() {
             @Override
             public void run() {
-                chainNextAction(actionsDone);
+                if (gen != generation.get()) return;
+                try {
+                    step.run();
+                } catch (Exception ex) {
+                    Logger.error("BotManager", "Exception during bot turn: " + ex.getMessage());
+                }
             }
-        }, DELAY_BETWEEN_ACTIONS);
+        }, delay);
     }
 
     private static List<Board> getActiveBoards() {
@@ -128,190 +300,118 @@ public final class BotManager {
         return out;
     }
 
-    private static boolean tryPlayOneWolfCard(List<Board> boards) {
+    /** Snapshot the live game for P2; summon options line up by index with the cards collected into 'summonCards'. */
+    private static BotSearchState buildSearchState(Board board, List<SummonCard> summonCards) {
+        List<SummonOption> options = new ArrayList<>();
         var ps = PlayerManager.get(PieceAlignment.P2);
-        if (ps == null || ps.hand == null) return false;
-        // Find a WolfCard in hand
-        WolfCard targetCard = null;
-        for (var c : ps.hand.getCards()) {
-            if (c instanceof WolfCard wc) { targetCard = wc; break; }
-        }
-        if (targetCard == null) return false;
-        // Find a valid target plot on any board's last row
-        for (Board b : boards) {
-            int lastRow = b.getROWS() - 1;
-            for (int col = 0; col < b.getCOLS(); col++) {
-                Renderable r = b.getPlotAtPos(lastRow, col);
-                if (r instanceof Plot p) {
-                    if (b.isValidSummonTarget(p, PieceAlignment.P2)) {
-                        // Emulate the card's multi-interaction resolve: source=card, target=plot
-                        int beforeHandSize = ps.hand.getCards().size();
-                        int beforeMana = ps.mana;
-                        HashMap<Integer, CustomBox> entities = new HashMap<>();
-                        entities.put(0, targetCard);
-                        entities.put(1, p);
-                        targetCard.triggerClickEffect(entities);
-                        // Success criteria: card consumed (no longer in hand) OR mana decreased
-                        boolean consumed = !ps.hand.getCards().contains(targetCard) || ps.hand.getCards().size() < beforeHandSize;
-                        boolean spentMana = ps.mana < beforeMana;
-                        if (consumed || spentMana) {
-                            return true;
-                        } else {
-                            // Try next valid plot or next board
-                            continue;
-                        }
-                    }
+        if (ps != null && ps.hand != null) {
+            for (var c : ps.hand.getCards()) {
+                if (c instanceof SummonCard sc) {
+                    GamePieceStats st = sc.getStats();
+                    summonCards.add(sc);
+                    options.add(new SummonOption(st.getCost(), st.getMaxHealth(), st.getDamage(), st.getSpeed(), st.getActions()));
                 }
             }
         }
-        return false;
+        return new BotSearchState(
+            board.snapshotState(),
+            PieceAlignment.P2,
+            PlayerManager.get(PieceAlignment.P1).mana,
+            PlayerManager.get(PieceAlignment.P2).mana,
+            options
+        );
     }
 
-    private static boolean tryOneAdjacentAttack(List<Board> boards) {
-        for (Board b : boards) {
-            int rows = b.getROWS();
-            int cols = b.getCOLS();
-            for (int r = 0; r < rows; r++) {
-                for (int c = 0; c < cols; c++) {
-                    GamePiece gp = b.getGamePieceAtPos(r, c);
-                    if (gp instanceof MonsterGamePiece mgp && mgp.getAlignment() == PieceAlignment.P2) {
-                        // Build a list of adjacent hostile plots
-                        List<Plot> hostile = b.getAdjacentHostilePlots(r, c, PieceAlignment.P2);
-                        if (!hostile.isEmpty()) {
-                            // Resolve attack by invoking the Plot's onClick (Board.handlePlotMove)
-                            Renderable srcR = b.getPlotAtPos(r, c);
-                            if (srcR instanceof Plot srcPlot) {
-                                Plot dstPlot = hostile.get(0);
-                                int[] dIdx = b.getIndicesOfPlot(dstPlot);
-                                if (dIdx == null) continue;
-                                // Snapshot defender state and attacker remaining actions before triggering
-                                GamePiece defenderBefore = b.getGamePieceAtPos(dIdx[0], dIdx[1]);
-                                int defenderHpBefore = -1;
-                                if (defenderBefore instanceof MonsterGamePiece defM) {
-                                    defenderHpBefore = defM.getStats().getCurrentHealth();
-                                }
-                                int actionsBefore;
-                                Object aVal = mgp.getData(GamePieceData.ACTIONS_REMAINING);
-                                if (aVal instanceof Integer n) actionsBefore = n; else actionsBefore = mgp.getStats().getActions();
-
-                                HashMap<Integer, CustomBox> entities = new HashMap<>();
-                                entities.put(0, srcPlot);
-                                entities.put(1, dstPlot);
-                                // Call plot's trigger (wired to Board.handlePlotMove)
-                                srcPlot.triggerClickEffect(entities);
-
-                                // Verify success: defender damaged/dead OR attacker actions decreased
-                                GamePiece defenderAfter = b.getGamePieceAtPos(dIdx[0], dIdx[1]);
-                                boolean defenderDied = (defenderBefore instanceof MonsterGamePiece) && (defenderAfter == null || defenderAfter != defenderBefore);
-                                boolean defenderDamaged = false;
-                                if (defenderBefore instanceof MonsterGamePiece defM2 && defenderAfter instanceof MonsterGamePiece defM2After && defenderBefore == defenderAfter) {
-                                    defenderDamaged = defM2After.getStats().getCurrentHealth() < defenderHpBefore;
-                                }
-                                int actionsAfter;
-                                Object aValAfter = mgp.getData(GamePieceData.ACTIONS_REMAINING);
-                                if (aValAfter instanceof Integer n2) actionsAfter = n2; else actionsAfter = mgp.getStats().getActions();
-                                boolean spentAction = actionsAfter < actionsBefore;
-
-                                if (defenderDied || defenderDamaged || spentAction) {
-                                    return true;
-                                } else {
-                                    // Attack didn’t resolve (no state change) — keep searching
-                                    continue;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return false;
+    /**
+     * Resolve a planned action through the same click effects a human would trigger, so Board/Card rules,
+     * abilities and events all apply. Returns true if the live game state actually changed.
+     */
+    private static boolean executeAction(Board b, BotAction action, List<SummonCard> summonCards) {
+        return switch (action.getType()) {
+            case ATTACK -> executeAttack(b, action);
+            case MOVE -> executeMove(b, action);
+            case SUMMON -> executeSummon(b, action, summonCards);
+            case END_TURN -> false;
+        };
     }
 
-    private static boolean tryOneMovementTowardEnemy(List<Board> boards) {
-        for (Board b : boards) {
-            int rows = b.getROWS();
-            int cols = b.getCOLS();
-            // Precompute all enemy locations for quick Manhattan distance checks
-            List<int[]> enemies = new ArrayList<>();
-            for (int r = 0; r < rows; r++) {
-                for (int c = 0; c < cols; c++) {
-                    GamePiece gp = b.getGamePieceAtPos(r, c);
-                    if (gp instanceof MonsterGamePiece em && em.getAlignment() == PieceAlignment.P1) {
-                        enemies.add(new int[]{r, c});
-                    }
-                }
-            }
-            if (enemies.isEmpty()) continue;
-
-            for (int r = 0; r < rows; r++) {
-                for (int c = 0; c < cols; c++) {
-                    GamePiece gp = b.getGamePieceAtPos(r, c);
-                    if (!(gp instanceof MonsterGamePiece mgp) || mgp.getAlignment() != PieceAlignment.P2) continue;
-                    // Source and current distance to nearest enemy
-                    int currentDist = nearestEnemyManhattan(r, c, enemies);
-                    if (currentDist <= 1) continue; // already adjacent; attack path would have handled
-                    int speed = mgp.getStats().getSpeed();
-                    List<Plot> reachable = b.getReachablePlots(r, c, speed);
-                    if (reachable.isEmpty()) continue;
-                    // Choose any reachable plot that strictly reduces distance
-                    Plot best = null;
-                    int bestDist = currentDist;
-                    for (Plot p : reachable) {
-                        int[] idx = b.getIndicesOfPlot(p);
-                        if (idx == null) continue;
-                        int d = nearestEnemyManhattan(idx[0], idx[1], enemies);
-                        if (d < bestDist) {
-                            bestDist = d;
-                            best = p;
-                        }
-                    }
-                    if (best != null) {
-                        // Invoke move via plot trigger so Board handles rules + events
-                        Renderable srcR = b.getPlotAtPos(r, c);
-                        if (srcR instanceof Plot srcPlot) {
-                            // Snapshot destination indices and source piece for verification after trigger
-                            int[] bestIdx = b.getIndicesOfPlot(best);
-                            if (bestIdx == null) continue;
-                            GamePiece before = b.getGamePieceAtPos(r, c);
-                            HashMap<Integer, CustomBox> entities = new HashMap<>();
-                            entities.put(0, srcPlot);
-                            entities.put(1, best);
-                            srcPlot.triggerClickEffect(entities);
-                            // Verify that move actually occurred (piece arrived at destination)
-                            GamePiece afterAtDest = b.getGamePieceAtPos(bestIdx[0], bestIdx[1]);
-                            if (afterAtDest == before) {
-                                return true; // movement succeeded
-                            } else {
-                                // Movement did not happen (blocked or invalid); keep searching
-                                continue;
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return false;
+    private static boolean executeSummon(Board b, BotAction action, List<SummonCard> summonCards) {
+        var ps = PlayerManager.get(PieceAlignment.P2);
+        if (ps == null || ps.hand == null) return false;
+        if (action.getOption() < 0 || action.getOption() >= summonCards.size()) return false;
+        SummonCard targetCard = summonCards.get(action.getOption());
+        Renderable r = b.getPlotAtPos(action.getToRow(), action.getToCol());
+        if (!(r instanceof Plot p) || !b.isValidSummonTarget(p, PieceAlignment.P2)) return false;
+        // Emulate the card's multi-interaction resolve: source=card, target=plot
+        int beforeHandSize = ps.hand.getCards().size();
+        int beforeMana = ps.mana;
+        HashMap<Integer, CustomBox> entities = new HashMap<>();
+        entities.put(0, targetCard);
+        entities.put(1, p);
+        targetCard.triggerClickEffect(entities);
+        // Success criteria: card consumed (no longer in hand) OR mana decreased
+        boolean consumed = !ps.hand.getCards().contains(targetCard) || ps.hand.getCards().size() < beforeHandSize;
+        boolean spentMana = ps.mana < beforeMana;
+        return consumed || spentMana;
     }
 
-    private static int nearestEnemyManhattan(int r, int c, List<int[]> enemies) {
-        int best = Integer.MAX_VALUE;
-        for (int[] e : enemies) {
-            int d = Math.abs(e[0] - r) + Math.abs(e[1] - c);
-            if (d < best) best = d;
+    private static boolean executeAttack(Board b, BotAction action) {
+        GamePiece gp = b.getGamePieceAtPos(action.getFromRow(), action.getFromCol());
+        Renderable srcR = b.getPlotAtPos(action.getFromRow(), action.getFromCol());
+        Renderable dstR = b.getPlotAtPos(action.getToRow(), action.getToCol());
+        if (!(gp instanceof MonsterGamePiece mgp) || !(srcR instanceof Plot srcPlot) || !(dstR instanceof Plot dstPlot)) return false;
+        // Snapshot defender state and attacker remaining actions before triggering
+        GamePiece defenderBefore = b.getGamePieceAtPos(action.getToRow(), action.getToCol());
+        int defenderHpBefore = -1;
+        if (defenderBefore instanceof MonsterGamePiece defM) {
+            defenderHpBefore = defM.getStats().getCurrentHealth();
         }
-        return best;
+        int actionsBefore = remainingActions(mgp);
+
+        HashMap<Integer, CustomBox> entities = new HashMap<>();
+        entities.put(0, srcPlot);
+        entities.put(1, dstPlot);
+        // Call plot's trigger (wired to Board.handlePlotMove)
+        srcPlot.triggerClickEffect(entities);
+
+        // Verify success: defender damaged/dead OR attacker actions decreased
+        GamePiece defenderAfter = b.getGamePieceAtPos(action.getToRow(), action.getToCol());
+        boolean defenderDied = (defenderBefore instanceof MonsterGamePiece) && (defenderAfter == null || defenderAfter != defenderBefore);
+        boolean defenderDamaged = false;
+        if (defenderBefore instanceof MonsterGamePiece && defenderAfter instanceof MonsterGamePiece defAfter && defenderBefore == defenderAfter) {
+            defenderDamaged = defAfter.getStats().getCurrentHealth() < defenderHpBefore;
+        }
+        boolean spentAction = remainingActions(mgp) < actionsBefore;
+        return defenderDied || defenderDamaged || spentAction;
+    }
+
+    private static boolean executeMove(Board b, BotAction action) {
+        GamePiece before = b.getGamePieceAtPos(action.getFromRow(), action.getFromCol());
+        Renderable srcR = b.getPlotAtPos(action.getFromRow(), action.getFromCol());
+        Renderable dstR = b.getPlotAtPos(action.getToRow(), action.getToCol());
+        if (!(before instanceof MonsterGamePiece) || !(srcR instanceof Plot srcPlot) || !(dstR instanceof Plot dstPlot)) return false;
+        // Invoke move via plot trigger so Board handles rules + events
+        HashMap<Integer, CustomBox> entities = new HashMap<>();
+        entities.put(0, srcPlot);
+        entities.put(1, dstPlot);
+        srcPlot.triggerClickEffect(entities);
+        // Verify that move actually occurred (piece arrived at destination)
+        return b.getGamePieceAtPos(action.getToRow(), action.getToCol()) == before;
     }
 
-    private static void scheduleEndTurn() {
+    private static int remainingActions(MonsterGamePiece mgp) {
+        Object v = mgp.getData(GamePieceData.ACTIONS_REMAINING);
+        if (v instanceof Integer n) return n;
+        return mgp.getStats().getActions();
+    }
+
+    private static void scheduleEndTurn(int gen) {
         // Schedule end turn with a small delay to ensure UI and events settle
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                // Avoid ending turn while paused
-                if (!GraphicsManager.isPaused()) {
-                    TurnManager.endTurn();
-                }
+        schedule(() -> {
+            // Avoid ending turn while paused
+            if (!GraphicsManager.isPaused()) {
+                TurnManager.endTurn();
             }
-        }, DELAY_BEFORE_END);
+        }, DELAY_BEFORE_END, gen);
     }
 }
@@ -0,0 +1,178 @@
+package io.github.forest_of_dreams.managers;
+
+import io.github.forest_of_dreams.data_objects.Box;
+import io.github.forest_of_dreams.interfaces.Clickable;
+import io.github.forest_of_dreams.interfaces.Renderable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Registry and uniform-grid spatial index of clickables.
+ * Membership is by identity with O(1) add/remove/contains; adding an instance twice is a no-op.
+ * Entries remember their registration order, so the earliest registered hit wins as with a list scan.
+ * A click only tests the clickables whose absolute screen bounds overlap the grid cell under the cursor.
+ * Bounds changes are picked up lazily: the grid listens to each entry's bounds and parent Box, so moving or
+ * resizing them in place (as well as setBounds/setParent via markDirty()) queues the entry, and it is
+ * re-indexed before the next query.
+ */
+final class ClickableGrid {
+    private static final int CELL_SIZE = 64; // px
+
+    private static final class Entry {
+        final Clickable clickable;
+        final long order;
+        final Runnable onBoxChanged;
+        boolean indexed = false;
+        int cx0, cy0, cx1, cy1; // inclusive cell range currently indexed
+        Box watchedBounds = null;
+        Box watchedParent = null;
+
+        Entry(Clickable clickable, long order, Runnable onBoxChanged) {
+            this.clickable = clickable;
+            this.order = order;
+            this.onBoxChanged = onBoxChanged;
+        }
+    }
+
+    private final Map<Clickable, Entry> entries = new IdentityHashMap<>();
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Set<Clickable> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long nextOrder = 0;
+
+    /** Register a clickable; returns false if it was already registered. */
+    boolean add(Clickable clickable) {
+        if (clickable == null || entries.containsKey(clickable)) return false;
+        Entry e = new Entry(clickable, nextOrder++, () -> dirty.add(clickable));
+        entries.put(clickable, e);
+        reindex(e);
+        return true;
+    }
+
+    /** Unregister a clickable; returns false if it was not registered. */
+    boolean remove(Clickable clickable) {
+        Entry e = entries.remove(clickable);
+        if (e == null) return false;
+        dirty.remove(clickable);
+        unindex(e);
+        watch(e, null, null);
+        return true;
+    }
+
+    boolean contains(Clickable clickable) {
+        return entries.containsKey(clickable);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** Registered clickables in registration order (a fresh list). */
+    List<Clickable> snapshot() {
+        List<Entry> ordered = new ArrayList<>(entries.values());
+        ordered.sort((a, b) -> Long.compare(a.order, b.order));
+        List<Clickable> out = new ArrayList<>(ordered.size());
+        for (Entry e : ordered) out.add(e.clickable);
+        return out;
+    }
+
+    void clear() {
+        for (Entry e : entries.values()) watch(e, null, null);
+        entries.clear();
+        cells.clear();
+        dirty.clear();
+    }
+
+    /** Queue a registered clickable for re-indexing; unregistered ones are ignored. */
+    void markDirty(Clickable clickable) {
+        if (entries.containsKey(clickable)) dirty.add(clickable);
+    }
+
+    /** Earliest registered clickable under (x, y) accepted by 'filter', or null. */
+    Clickable find(int x, int y, Predicate<Clickable> filter) {
+        flushDirty();
+        List<Entry> candidates = cells.get(key(Math.floorDiv(x, CELL_SIZE), Math.floorDiv(y, CELL_SIZE)));
+        if (candidates == null) return null;
+        Entry best = null;
+        for (Entry e : candidates) {
+            if (best != null && e.order > best.order) continue;
+            if (filter.test(e.clickable) && e.clickable.inRange(x, y)) best = e;
+        }
+        return best == null ? null : best.clickable;
+    }
+
+    private void flushDirty() {
+        if (dirty.isEmpty()) return;
+        for (Clickable c : dirty) {
+            Entry e = entries.get(c);
+            if (e != null) reindex(e);
+        }
+        dirty.clear();
+    }
+
+    // Same absolute rectangle CustomBox.inRange tests against
+    private void reindex(Entry e) {
+        Clickable c = e.clickable;
+        if (c instanceof Renderable renderable) watch(e, renderable.getBounds(), renderable.getParent());
+        int absX = c.getAbsoluteX();
+        int absY = c.getAbsoluteY();
+        int w = c.getWidth();
+        int h = c.getHeight();
+        if (w <= 0 || h <= 0) {
+            // Empty bounds can never be hit
+            unindex(e);
+            return;
+        }
+        int cx0 = Math.floorDiv(absX, CELL_SIZE);
+        int cy0 = Math.floorDiv(absY, CELL_SIZE);
+        int cx1 = Math.floorDiv(absX + w - 1, CELL_SIZE);
+        int cy1 = Math.floorDiv(absY + h - 1, CELL_SIZE);
+        if (e.indexed && cx0 == e.cx0 && cy0 == e.cy0 && cx1 == e.cx1 && cy1 == e.cy1) return;
+        unindex(e);
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>(2)).add(e);
+            }
+        }
+        e.cx0 = cx0; e.cy0 = cy0; e.cx1 = cx1; e.cy1 = cy1;
+        e.indexed = true;
+    }
+
+    // Follow the boxes the entry's position is derived from; setBounds/setParent swap them via markDirty()
+    private void watch(Entry e, Box bounds, Box parent) {
+        if (e.watchedBounds != bounds) {
+            if (e.watchedBounds != null) e.watchedBounds.removeChangeListener(e.onBoxChanged);
+            if (bounds != null) bounds.addChangeListener(e.onBoxChanged);
+            e.watchedBounds = bounds;
+        }
+        if (e.watchedParent != parent) {
+            if (e.watchedParent != null) e.watchedParent.removeChangeListener(e.onBoxChanged);
+            if (parent != null) parent.addChangeListener(e.onBoxChanged);
+            e.watchedParent = parent;
+        }
+    }
+
+    private void unindex(Entry e) {
+        if (!e.indexed) return;
+        for (int cx = e.cx0; cx <= e.cx1; cx++) {
+            for (int cy = e.cy0; cy <= e.cy1; cy++) {
+                Long k = key(cx, cy);
+                List<Entry> list = cells.get(k);
+                if (list == null) continue;
+                list.remove(e);
+                if (list.isEmpty()) cells.remove(k);
+            }
+        }
+        e.indexed = false;
+    }
+
+    private static Long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
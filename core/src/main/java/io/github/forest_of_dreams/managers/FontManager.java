@@ -7,24 +7,46 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import io.github.forest_of_dreams.enums.FontType;
+import io.github.forest_of_dreams.utils.Logger;
 
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Lightweight font manager that prefers custom BitmapFont files from assets/fonts,
  * falling back to the default UI skin styles when a custom font is not found.
+ * When a TrueType source (assets/fonts/<name>.ttf) exists, getLabelStyle(fontType, capHeight) rasterizes the
+ * font with FreeType at the requested size instead, so text renders at its native size rather than as a
+ * scaled bitmap. Generated glyphs are white and every size of every font shares the same atlas pages.
+ * Bitmap fonts with black glyphs load their build-baked white variant (<name>-white.fnt) when present.
  */
 public final class FontManager {
     private static final String FONTS_DIR = "fonts/"; // relative to assets/
-    private static final Skin SKIN = new Skin(Gdx.files.internal("ui/uiskin.json"));
+    private static final String WHITE_SUFFIX = "-white"; // baked white-glyph variants, see core:whitenFonts
+    private static final Skin SKIN = AssetService.acquire("ui/uiskin.json", Skin.class);
 
     private static final Map<FontType, Label.LabelStyle> CACHED_STYLES = new EnumMap<>(FontType.class);
 
+    // FreeType sizes, keyed by generated em size. Requested cap heights are snapped to a geometric ladder
+    // (SIZE_STEP apart) and Text scales the remainder, so the set of sizes (and glyph pages) stays bounded
+    // no matter how many box or window sizes ask for text.
+    private static final int GLYPH_PAGE_SIZE = 1024; // px
+    private static final double SIZE_STEP = 1.25; // ratio between neighbouring generated sizes
+    private static final int REFERENCE_SIZE = 32; // em size used to measure a font's cap-height ratio
+    private static final int MAX_GENERATED_SIZE = 256; // em px; larger requests scale the largest size
+    private static final Map<FontType, FreeTypeFontGenerator> GENERATORS = new EnumMap<>(FontType.class);
+    private static final Map<FontType, Float> CAP_RATIOS = new EnumMap<>(FontType.class); // cap height / em size
+    private static final Map<FontType, Map<Integer, Label.LabelStyle>> SIZED_STYLES = new EnumMap<>(FontType.class);
+    private static PixmapPacker glyphPacker = null;
+
     private FontManager() {}
 
     public static Label.LabelStyle getLabelStyle(FontType fontType) {
@@ -33,13 +55,24 @@ public final class FontManager {
         if (cached != null) return cached;
 
         String name = fontType.getFontName();
+        // If the bitmap font uses black RGB with alpha coverage (like Silkscreen), glyph RGB must be white
+        // so color tinting works correctly. The build bakes <name>-white.fnt for that (core:whitenFonts).
+        boolean needsWhite = fontType == FontType.SILKSCREEN;
+        FileHandle whiteFnt = Gdx.files.internal(FONTS_DIR + name + WHITE_SUFFIX + ".fnt");
+        if (needsWhite && whiteFnt.exists()) {
+            Label.LabelStyle style = new Label.LabelStyle();
+            style.font = AssetService.acquire(whiteFnt.path(), BitmapFont.class);
+            CACHED_STYLES.put(fontType, style);
+            return style;
+        }
+
         // First try to load a custom BitmapFont from assets/fonts/<name>.fnt
         FileHandle fnt = Gdx.files.internal(FONTS_DIR + name + ".fnt");
         if (fnt.exists()) {
-            BitmapFont bitmapFont = new BitmapFont(fnt);
-            // If the bitmap font uses black RGB with alpha coverage (like Silkscreen),
-            // make glyph RGB white so color tinting works correctly.
-            if (fontType == FontType.SILKSCREEN) {
+            // Loaded through AssetService so the font and its page textures are shared and disposed centrally
+            BitmapFont bitmapFont = AssetService.acquire(fnt.path(), BitmapFont.class);
+            // No baked variant (e.g. assets not built through Gradle): whiten the pages now
+            if (needsWhite) {
                 makeFontRgbWhite(bitmapFont);
             }
             Label.LabelStyle style = new Label.LabelStyle();
@@ -54,6 +87,91 @@ public final class FontManager {
         return style;
     }
 
+    /**
+     * A style whose font is rasterized close to the given cap height (in pixels): the nearest step of the
+     * size ladder, so at most ~12% font scaling remains. Falls back to getLabelStyle(fontType) when the
+     * font has no TrueType source. Sizes are generated on first use and kept until dispose().
+     */
+    public static Label.LabelStyle getLabelStyle(FontType fontType, float capHeight) {
+        if (fontType == null) fontType = FontType.DEFAULT;
+        FreeTypeFontGenerator generator = getGenerator(fontType);
+        if (generator == null || capHeight <= 0f) return getLabelStyle(fontType);
+
+        long step = Math.round(Math.log(Math.max(1f, capHeight)) / Math.log(SIZE_STEP));
+        double bucketCap = Math.pow(SIZE_STEP, step);
+        float ratio = CAP_RATIOS.computeIfAbsent(fontType, k -> measureCapRatio(generator));
+        int size = (int) Math.min(MAX_GENERATED_SIZE, Math.max(1, Math.round(bucketCap / ratio)));
+
+        Map<Integer, Label.LabelStyle> sizes = SIZED_STYLES.computeIfAbsent(fontType, k -> new HashMap<>());
+        Label.LabelStyle cached = sizes.get(size);
+        if (cached != null) return cached;
+        Label.LabelStyle style = new Label.LabelStyle();
+        style.font = generateFont(generator, size);
+        sizes.put(size, style);
+        return style;
+    }
+
+    public static void dispose() {
+        // Generated fonts do not own their textures; the shared glyph pages are disposed here
+        for (Map<Integer, Label.LabelStyle> sizes : SIZED_STYLES.values()) {
+            for (Label.LabelStyle style : sizes.values()) style.font.dispose();
+        }
+        SIZED_STYLES.clear();
+        CAP_RATIOS.clear();
+        if (glyphPacker != null) {
+            for (PixmapPacker.Page page : glyphPacker.getPages()) {
+                if (page.getTexture() != null) page.getTexture().dispose();
+            }
+            glyphPacker.dispose();
+            glyphPacker = null;
+        }
+        for (FreeTypeFontGenerator generator : GENERATORS.values()) {
+            if (generator != null) generator.dispose();
+        }
+        GENERATORS.clear();
+    }
+
+    // The FreeType generator for assets/fonts/<name>.ttf, or null if there is none (remembered either way)
+    private static FreeTypeFontGenerator getGenerator(FontType fontType) {
+        if (GENERATORS.containsKey(fontType)) return GENERATORS.get(fontType);
+        FreeTypeFontGenerator generator = null;
+        FileHandle ttf = Gdx.files.internal(FONTS_DIR + fontType.getFontName() + ".ttf");
+        if (ttf.exists()) {
+            try {
+                generator = new FreeTypeFontGenerator(ttf);
+            } catch (Exception e) {
+                Logger.error("FontManager", "Could not open " + ttf.path() + ": " + e.getMessage());
+            }
+        }
+        GENERATORS.put(fontType, generator);
+        return generator;
+    }
+
+    private static float measureCapRatio(FreeTypeFontGenerator generator) {
+        // Throwaway size with its own texture, so it takes no space on the shared pages
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = REFERENCE_SIZE;
+        parameter.characters = "EHX";
+        BitmapFont reference = generator.generateFont(parameter);
+        float ratio = Math.abs(reference.getCapHeight()) / REFERENCE_SIZE;
+        reference.dispose();
+        return ratio > 0f ? ratio : 1f;
+    }
+
+    private static BitmapFont generateFont(FreeTypeFontGenerator generator, int size) {
+        if (glyphPacker == null) {
+            glyphPacker = new PixmapPacker(GLYPH_PAGE_SIZE, GLYPH_PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false);
+        }
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = size;
+        parameter.color.set(1f, 1f, 1f, 1f); // white glyphs so Label color tinting works
+        parameter.minFilter = TextureFilter.Nearest;
+        parameter.magFilter = TextureFilter.Nearest;
+        // Glyphs are added to the shared pages and the page textures are updated in place
+        parameter.packer = glyphPacker;
+        return generator.generateFont(parameter);
+    }
+
     /**
      * Convert all font texture regions so that their RGB becomes white (255,255,255) while
      * preserving the original alpha channel. This fixes fonts generated with black RGB glyphs
@@ -0,0 +1,252 @@
+package io.github.forest_of_dreams.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import io.github.forest_of_dreams.enums.FontType;
+import io.github.forest_of_dreams.interfaces.Renderable;
+import io.github.forest_of_dreams.supers.Room;
+import io.github.forest_of_dreams.utils.Logger;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Opt-in frame profiler (F3 toggles it, F4 dumps a CSV).
+ * While enabled it records, per frame: CPU frame time, SpriteBatch render calls and max sprites in a batch,
+ * texture switches when the game queue is flushed, time spent recording each top-level renderable (summed per
+ * class) and time spent submitting each z level (including any batch flush that level triggers).
+ * Every metric keeps the last WINDOW frames, so the overlay and the CSV show rolling percentiles.
+ * The window restarts when the room changes, so numbers always belong to the room on screen.
+ * When disabled every hook is a single boolean check. Render thread only.
+ */
+public final class FrameProfiler {
+    private FrameProfiler() {}
+
+    public static final String FRAME_MS = "frame/cpu ms";
+    public static final String RENDER_CALLS = "batch/render calls";
+    public static final String MAX_SPRITES = "batch/max sprites";
+    public static final String TEXTURE_SWITCHES = "batch/texture switches";
+    public static final String GAME_PASS_MS = "pass/game ms";
+    public static final String UI_PASS_MS = "pass/ui ms";
+    private static final String RENDERABLE_PREFIX = "renderable/";
+    private static final String Z_PREFIX = "z/";
+
+    private static final int WINDOW = 240; // frames
+    private static final int OVERLAY_REFRESH_FRAMES = 30;
+    private static final int OVERLAY_TOP = 5; // slowest renderables / z levels listed
+    private static final String CSV_DIR = "profiler/"; // relative to the local storage root
+
+    @Getter private static boolean enabled = false;
+    private static boolean inFrame = false;
+    private static long frameStart = 0L;
+    private static int renderCallsAtStart = 0;
+    private static int frameCount = 0;
+    private static Room room = null;
+    private static String overlayText = "";
+    private static final Color FONT_COLOR = new Color(); // shared font's color, restored after the overlay
+
+    // Insertion ordered so the CSV lists frame metrics first
+    private static final Map<String, Series> series = new LinkedHashMap<>();
+    // Metric names are built once per class / z level, not every frame
+    private static final Map<Class<?>, String> renderableNames = new HashMap<>();
+    private static final Map<Integer, String> zNames = new HashMap<>();
+
+    private static final class Series {
+        final String name;
+        final float[] samples = new float[WINDOW]; // ring
+        int count = 0;
+        int next = 0;
+        float current = 0f; // accumulated this frame
+        boolean touched = false;
+        // Snapshot of the last percentile computation
+        float p50, p95, p99, max;
+
+        Series(String name) {
+            this.name = name;
+        }
+
+        void push() {
+            if (!touched) return;
+            samples[next] = current;
+            next = (next + 1) % WINDOW;
+            count = Math.min(WINDOW, count + 1);
+            current = 0f;
+            touched = false;
+        }
+
+        void computePercentiles() {
+            if (count == 0) {
+                p50 = p95 = p99 = max = 0f;
+                return;
+            }
+            float[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            p50 = percentile(sorted, 0.50f);
+            p95 = percentile(sorted, 0.95f);
+            p99 = percentile(sorted, 0.99f);
+            max = sorted[count - 1];
+        }
+
+        private static float percentile(float[] sorted, float p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+
+    public static void setEnabled(boolean value) {
+        if (value == enabled) return;
+        enabled = value;
+        // Start every session with an empty window; a frame that is in progress is not measured
+        inFrame = false;
+        reset();
+        Logger.log("FrameProfiler", enabled ? "Enabled" : "Disabled");
+    }
+
+    public static void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public static void beginFrame(SpriteBatch batch) {
+        if (!enabled) return;
+        if (Game.currentRoom != room) {
+            room = Game.currentRoom;
+            reset();
+        }
+        inFrame = true;
+        frameStart = System.nanoTime();
+        renderCallsAtStart = batch.totalRenderCalls;
+        batch.maxSpritesInBatch = 0;
+    }
+
+    public static void endFrame(SpriteBatch batch) {
+        if (!enabled || !inFrame) return;
+        add(FRAME_MS, (System.nanoTime() - frameStart) / 1_000_000f);
+        add(RENDER_CALLS, batch.totalRenderCalls - renderCallsAtStart);
+        add(MAX_SPRITES, batch.maxSpritesInBatch);
+        inFrame = false;
+        for (Series s : series.values()) s.push();
+        if (++frameCount % OVERLAY_REFRESH_FRAMES == 0) refreshOverlay();
+    }
+
+    /** Add 'value' to the metric 'name' for the current frame. */
+    public static void add(String name, float value) {
+        if (!inFrame) return;
+        Series s = series.get(name);
+        if (s == null) {
+            s = new Series(name);
+            series.put(name, s);
+        }
+        s.current += value;
+        s.touched = true;
+    }
+
+    /** Add elapsed nanoseconds (as milliseconds) to the metric 'name'. */
+    public static void addNanos(String name, long nanos) {
+        add(name, nanos / 1_000_000f);
+    }
+
+    public static void addRenderable(Renderable renderable, long nanos) {
+        String name = renderableNames.computeIfAbsent(renderable.getClass(), c -> RENDERABLE_PREFIX + c.getSimpleName() + " ms");
+        addNanos(name, nanos);
+    }
+
+    public static void addZ(int z, long nanos) {
+        String name = zNames.computeIfAbsent(z, k -> Z_PREFIX + k + " ms");
+        addNanos(name, nanos);
+    }
+
+    /** Draw the overlay in the top-left corner; 'batch' must be drawing. */
+    public static void renderOverlay(SpriteBatch batch) {
+        if (!enabled || overlayText.isEmpty()) return;
+        BitmapFont font = FontManager.getLabelStyle(FontType.DEFAULT).font;
+        FONT_COLOR.set(font.getColor());
+        font.setColor(Color.YELLOW);
+        font.draw(batch, overlayText, 8, SettingsManager.screenSize.getScreenHeight() - 8);
+        font.setColor(FONT_COLOR);
+    }
+
+    /** Write the current window's percentiles to profiler/frames-<timestamp>.csv. Returns the file or null. */
+    public static FileHandle dumpCsv() {
+        if (series.isEmpty()) {
+            Logger.log("FrameProfiler", "Nothing recorded yet (press F3 to enable profiling)");
+            return null;
+        }
+        String roomName = room == null ? "none" : room.getClass().getSimpleName();
+        StringBuilder csv = new StringBuilder("room,metric,samples,p50,p95,p99,max\n");
+        for (Series s : series.values()) {
+            s.computePercentiles();
+            csv.append(roomName).append(',')
+                .append(s.name).append(',')
+                .append(s.count).append(',')
+                .append(format(s.p50)).append(',')
+                .append(format(s.p95)).append(',')
+                .append(format(s.p99)).append(',')
+                .append(format(s.max)).append('\n');
+        }
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        FileHandle file = Gdx.files.local(CSV_DIR + "frames-" + stamp + ".csv");
+        try {
+            file.writeString(csv.toString(), false, "UTF-8");
+        } catch (Exception e) {
+            Logger.error("FrameProfiler", "Could not write " + file.path() + ": " + e.getMessage());
+            return null;
+        }
+        Logger.log("FrameProfiler", "Wrote " + file.path());
+        return file;
+    }
+
+    private static void reset() {
+        series.clear();
+        frameCount = 0;
+        overlayText = "";
+    }
+
+    private static void refreshOverlay() {
+        List<Series> renderables = new ArrayList<>();
+        List<Series> zLevels = new ArrayList<>();
+        for (Series s : series.values()) {
+            s.computePercentiles();
+            if (s.name.startsWith(RENDERABLE_PREFIX)) renderables.add(s);
+            else if (s.name.startsWith(Z_PREFIX)) zLevels.add(s);
+        }
+        StringBuilder sb = new StringBuilder("profiler (p50 / p95 / p99)\n");
+        appendLine(sb, series.get(FRAME_MS));
+        appendLine(sb, series.get(GAME_PASS_MS));
+        appendLine(sb, series.get(UI_PASS_MS));
+        appendLine(sb, series.get(RENDER_CALLS));
+        appendLine(sb, series.get(MAX_SPRITES));
+        appendLine(sb, series.get(TEXTURE_SWITCHES));
+        appendSlowest(sb, renderables);
+        appendSlowest(sb, zLevels);
+        overlayText = sb.toString();
+    }
+
+    private static void appendSlowest(StringBuilder sb, List<Series> list) {
+        list.sort(Comparator.comparingDouble((Series s) -> s.p95).reversed());
+        for (int i = 0; i < Math.min(OVERLAY_TOP, list.size()); i++) appendLine(sb, list.get(i));
+    }
+
+    private static void appendLine(StringBuilder sb, Series s) {
+        if (s == null) return;
+        sb.append(s.name).append(": ")
+            .append(format(s.p50)).append(" / ")
+            .append(format(s.p95)).append(" / ")
+            .append(format(s.p99)).append('\n');
+    }
+
+    private static String format(float value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
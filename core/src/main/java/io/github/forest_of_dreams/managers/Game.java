@@ -1,22 +1,60 @@
 package io.github.forest_of_dreams.managers;
 
+import com.badlogic.gdx.assets.AssetDescriptor;
+import io.github.forest_of_dreams.abilities.AbilityRelay;
+import io.github.forest_of_dreams.abilities.aura.AuraEngine;
 import io.github.forest_of_dreams.rooms.MainMenuRoom;
 import io.github.forest_of_dreams.supers.Room;
 import io.github.forest_of_dreams.ui_objects.SelectionOverlay;
+import io.github.forest_of_dreams.utils.Logger;
+import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class Game {
     public static Room currentRoom;
 
+    // Assets the current room was entered with; held until the next room has acquired its own
+    private static final List<AssetDescriptor<?>> roomAssets = new ArrayList<>();
+    // Room switch waiting for its assets to finish loading in the background
+    private static Supplier<Room> pendingRoom = null;
+    private static final List<AssetDescriptor<?>> pendingAssets = new ArrayList<>();
+    /** Receives loading progress in [0, 1] each frame while a room switch is waiting for its assets. */
+    @Setter private static Consumer<Float> loadingListener = null;
+
     public static void initialize() {
+        // Decode the images for the shared atlas off the render thread before the first room is built.
+        // They are not room assets: switchRoom packs them into the atlas, which releases them right away.
+        AssetService.preload(TextureManager.getSourceAssets());
         gotoRoom(MainMenuRoom::get);
     }
 
+    /** Called once per frame; completes a pending room switch once its assets are loaded. */
+    public static void update() {
+        if (pendingRoom == null) return;
+        boolean done = AssetService.update();
+        if (loadingListener != null) loadingListener.accept(done ? 1f : AssetService.getProgress());
+        if (!done) return;
+        Supplier<Room> next = pendingRoom;
+        pendingRoom = null;
+        switchRoom(next, pendingAssets);
+    }
+
+    public static boolean isLoading() {
+        return pendingRoom != null;
+    }
+
     public static void clearRoom() {
         GraphicsManager.clearRenderables();
         GraphicsManager.clearUIRenderables();
         InteractionManager.clearClickables();
+        // Pieces of the old room are never detached; drop their ability subscriptions and auras with the room
+        AbilityRelay.clear();
+        AuraEngine.clear();
     }
 
     /**
@@ -24,6 +62,43 @@ public class Game {
      * room's renderables/UI/clickables first, then constructs the next room and shows it.
      */
     public static void gotoRoom(Supplier<Room> roomSupplier) {
+        gotoRoom(roomSupplier, List.of());
+    }
+
+    /**
+     * Navigate to a new room once the assets it declares are loaded. The assets are queued for
+     * background loading and the current room keeps running until update() sees them finish;
+     * with nothing left to load the switch happens immediately.
+     */
+    public static void gotoRoom(Supplier<Room> roomSupplier, Collection<AssetDescriptor<?>> assets) {
+        pendingAssets.clear();
+        pendingAssets.addAll(assets);
+        AssetService.preload(pendingAssets);
+        if (AssetService.update()) {
+            pendingRoom = null;
+            switchRoom(roomSupplier, pendingAssets);
+        } else {
+            pendingRoom = roomSupplier;
+        }
+    }
+
+    private static void switchRoom(Supplier<Room> roomSupplier, List<AssetDescriptor<?>> assets) {
+        // Rooms build sprites from the atlas; on the first switch this packs the preloaded sources (no-op after)
+        TextureManager.initialize();
+        // Take the next room's references before dropping the old ones so shared assets stay loaded
+        List<AssetDescriptor<?>> previous = new ArrayList<>(roomAssets);
+        roomAssets.clear();
+        for (AssetDescriptor<?> d : assets) {
+            try {
+                AssetService.acquire(d);
+                roomAssets.add(d);
+            } catch (Exception e) {
+                Logger.error("Game", "Skipping room asset " + d.fileName + ": " + e.getMessage());
+            }
+        }
+        previous.forEach(d -> AssetService.release(d.fileName));
+        // A pending bot search or step must never act on the next room
+        BotManager.cancelTurn();
         clearRoom();
         currentRoom = roomSupplier.get();
         currentRoom.showContent();
@@ -20,6 +20,8 @@ public class GameManager {
 
     public static void pause() {
         isPaused = true;
+        // Abandon any in-flight bot search; it restarts from a fresh snapshot on unpause
+        BotManager.cancelTurn();
         pauseGraphics();
         pauseInputHandlers();
     }
@@ -29,6 +31,7 @@ public class GameManager {
         unpauseGraphics();
         unpauseInputHandlers();
         PauseScreen.setCurrentPage(PauseScreenPage.NONE);
+        BotManager.resumeAfterPause();
     }
 
     // Interaction lock: blocks all input processing without showing pause UI
@@ -15,13 +15,13 @@ import lombok.Getter;
 import java.util.ArrayList;
 import java.util.List;
 
-// When you update higher order textures, you need to update the ZIndexRegistry as well
-
 public class GraphicsManager {
     @Getter private static final List<Renderable> renderables = new ArrayList<>();;
     @Getter private static final List<UIRenderable> uiRenderables = new ArrayList<>();;
     @Getter private static boolean isPaused = false;
     @Getter private static SpriteBatch batch = new SpriteBatch();
+    // Created on first render (needs the GL context)
+    private static RenderQueue queue = null;
 
     public static void pause() {
         isPaused = true;
@@ -42,8 +42,17 @@ public class GraphicsManager {
     }
 
     public static void render(SpriteBatch batch) {
+        if (!FrameProfiler.isEnabled()) {
+            renderGameGraphics(batch);
+            renderUI(batch);
+            return;
+        }
+        long start = System.nanoTime();
         renderGameGraphics(batch);
+        long gameEnd = System.nanoTime();
         renderUI(batch);
+        FrameProfiler.addNanos(FrameProfiler.GAME_PASS_MS, gameEnd - start);
+        FrameProfiler.addNanos(FrameProfiler.UI_PASS_MS, System.nanoTime() - gameEnd);
     }
 
     public static void renderUI(SpriteBatch batch) {
@@ -57,23 +66,24 @@ public class GraphicsManager {
         PauseScreen.get().renderUI(batch, false);
     }
 
+    // Record the whole scene into the queue in one traversal, then submit it ordered by z
     private static void renderGameGraphics(SpriteBatch batch) {
-        for (Integer z : ZIndexRegistry.getZLevels()) {
-            List<Renderable> bucket = ZIndexRegistry.getBucket(z);
-            if (bucket == null) continue;
-            for (Renderable r : bucket) {
-                if (r instanceof HigherOrderTexture hot) {
-                    r.render(batch, z, isPaused, hot.getX(), hot.getY());
-                } else {
-                    r.render(batch, z, isPaused);
-                }
+        if (queue == null) queue = new RenderQueue();
+        boolean profiling = FrameProfiler.isEnabled();
+        for (Renderable r : renderables) {
+            long start = profiling ? System.nanoTime() : 0L;
+            if (r instanceof HigherOrderTexture hot) {
+                r.enqueue(queue, isPaused, hot.getX(), hot.getY());
+            } else {
+                r.enqueue(queue, isPaused);
             }
+            if (profiling) FrameProfiler.addRenderable(r, System.nanoTime() - start);
         }
+        queue.flushTo(batch);
     }
 
     public static void addRenderable(Renderable renderable) {
         renderables.add(renderable);
-        ZIndexRegistry.add(renderable);
         if (renderable instanceof Clickable clickable) {
             InteractionManager.addClickable(clickable);
         } else if (renderable instanceof HigherOrderTexture higherOrderTexture) {
@@ -96,7 +106,6 @@ public class GraphicsManager {
 
     public static void removeRenderable(Renderable renderable) {
         renderables.remove(renderable);
-        ZIndexRegistry.remove(renderable);
         if (renderable instanceof Clickable clickable) {
             InteractionManager.removeClickable(clickable);
         } else if (renderable instanceof HigherOrderTexture higherOrderTexture) {
@@ -133,7 +142,6 @@ public class GraphicsManager {
             }
         });
         renderables.clear();
-        ZIndexRegistry.clear();
     }
 
     public static void  clearUIRenderables() {
@@ -148,6 +156,13 @@ public class GraphicsManager {
         uiRenderables.clear();
     }
 
+    /** Release the render queue's GL resources; call on shutdown. */
+    public static void dispose() {
+        if (queue == null) return;
+        queue.dispose();
+        queue = null;
+    }
+
     public static void draw(SpriteBatch batch) {
         RenderPipeline.draw(batch);
     }
@@ -159,4 +174,8 @@ public class GraphicsManager {
     public static void drawPauseUI(SpriteBatch batch) {
         RenderPipeline.drawPauseUI(batch);
     }
+
+    public static void drawProfilerOverlay(SpriteBatch batch) {
+        RenderPipeline.drawProfilerOverlay(batch);
+    }
 }
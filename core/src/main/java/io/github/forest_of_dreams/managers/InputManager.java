@@ -45,6 +45,8 @@ public class InputManager {
         setInput(InputKey.ESCAPE, InputFunction.PAUSE_MENU);
         setInput(InputKey.Q, InputFunction.EXIT_GAME);
         setInput(InputKey.ENTER, InputFunction.CONFIRM_SELECTION);
+        setInput(InputKey.F3, InputFunction.TOGGLE_PROFILER);
+        setInput(InputKey.F4, InputFunction.DUMP_PROFILER);
         // Standard binding
         // ...
 
@@ -57,6 +59,8 @@ public class InputManager {
         inputHandlers.put(InputFunction.PAUSE_MENU, new HandlePause());
         inputHandlers.put(InputFunction.EXIT_GAME, new HandleExitGame());
         inputHandlers.put(InputFunction.CONFIRM_SELECTION, new HandleConfirmSelection());
+        inputHandlers.put(InputFunction.TOGGLE_PROFILER, new HandleToggleProfiler());
+        inputHandlers.put(InputFunction.DUMP_PROFILER, new HandleDumpProfiler());
 
         inputHandlers.put(InputFunction.UNBOUND, new HandleUnbound());
     }
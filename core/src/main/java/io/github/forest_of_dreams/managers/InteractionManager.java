@@ -12,14 +12,22 @@ import lombok.Getter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Predicate;
 
 public class InteractionManager {
-    @Getter
-    private static final List<Clickable> clickables = new ArrayList<>();
+    // Identity-based, insertion-ordered registry and spatial index; click resolution only tests clickables under the cursor
+    private static final ClickableGrid clickables = new ClickableGrid();
+    // Hit filters: UI first (only pause UI while paused), then world elements (never while paused)
+    private static final Predicate<Clickable> UI_FILTER = c -> c instanceof UIRenderable;
+    private static final Predicate<Clickable> PAUSE_UI_FILTER = c -> c instanceof UIRenderable && c.isPauseUIElement();
+    private static final Predicate<Clickable> WORLD_FILTER = c -> !(c instanceof UIRenderable);
     private static Clickable currentEffect;
     private static final HashMap<Integer, CustomBox> selected = new HashMap<>();
     @Getter
     private static int selectedCount = 0;
+    // Bumped whenever the active source or selected targets change; lets renderers skip recomputation
+    @Getter
+    private static int selectionVersion = 0;
 
     public static void checkClick() {
         if (!InputManager.getFunctionActivation(InputFunction.LEFT_CLICK)) return;
@@ -32,22 +40,10 @@ public class InteractionManager {
         if (paused && selectedCount != 0) cleanInteraction();
 
         // Two-pass click resolution: prioritize UI clickables (buttons, text) over world elements (plots)
-        // Pass 1: UI clickables
-        Clickable hit = null;
-        for (Clickable clickable : clickables) {
-            if (!(clickable instanceof UIRenderable)) continue;
-            // When paused, only allow UI elements explicitly marked for pause; generic UI is blocked
-            if (paused && !clickable.isPauseUIElement()) continue;
-            if (clickable.inRange(mouseX, mouseY)) { hit = clickable; break; }
-        }
-        // Pass 2: Non-UI clickables (board, plots, sprites) if no UI element was hit
-        if (hit == null) {
-            for (Clickable clickable : clickables) {
-                if (clickable instanceof UIRenderable) continue;
-                if (paused) continue; // never allow non-UI while paused
-                if (clickable.inRange(mouseX, mouseY)) { hit = clickable; break; }
-            }
-        }
+        // Pass 1: UI clickables; when paused, only UI elements explicitly marked for pause
+        Clickable hit = clickables.find(mouseX, mouseY, paused ? PAUSE_UI_FILTER : UI_FILTER);
+        // Pass 2: Non-UI clickables (board, plots, sprites) if no UI element was hit; never while paused
+        if (hit == null && !paused) hit = clickables.find(mouseX, mouseY, WORLD_FILTER);
         if (hit != null) {
             if (selectedCount == 0) {
                 addInitialInteraction(hit);
@@ -57,6 +53,7 @@ public class InteractionManager {
         }
     }
 
+    /** Register a clickable; registering the same instance again is ignored. */
     public static void addClickable(Clickable clickable) {
         clickables.add(clickable);
     }
@@ -65,8 +62,29 @@ public class InteractionManager {
         clickables.remove(clickable);
     }
 
+    public static boolean isClickableRegistered(Clickable clickable) {
+        return clickables.contains(clickable);
+    }
+
+    public static int getClickableCount() {
+        return clickables.size();
+    }
+
+    /** Registered clickables in registration order (click priority order); a fresh copy. */
+    public static List<Clickable> getClickables() {
+        return clickables.snapshot();
+    }
+
     public static void clearClickables() { clickables.clear(); }
 
+    /**
+     * Re-index a clickable after its bounds or parent Box was replaced. LowestOrderTexture calls this from
+     * setBounds/setParent; moving or resizing the current boxes in place is picked up automatically.
+     */
+    public static void markBoundsDirty(Clickable clickable) {
+        clickables.markDirty(clickable);
+    }
+
     private static void addInitialInteraction(Clickable clickableEffect) {
         if (selectedCount != 0) return;
         currentEffect = clickableEffect;
@@ -79,6 +97,7 @@ public class InteractionManager {
             triggerFullInteraction();
         } else {
             selectedCount++;
+            selectionVersion++;
         }
     }
 
@@ -109,6 +128,7 @@ public class InteractionManager {
         }
         // Accept the target
         selected.put(selectedCount, box);
+        selectionVersion++;
         switch (data.getType()) {
             case IMMEDIATE -> Logger.error("InteractionManager", "Shouldn't add extra target when immediate");
             case MULTI_INTERACTION -> {
@@ -141,6 +161,7 @@ public class InteractionManager {
         currentEffect = null;
         selected.clear();
         selectedCount = 0;
+        selectionVersion++;
     }
 
     // Helper: deselect an already-selected target and compact indices
@@ -159,6 +180,7 @@ public class InteractionManager {
         }
         // Remove the last duplicate entry
         selected.remove(size);
+        selectionVersion++;
         // Decrement selectedCount but never below 1 (which represents the source click)
         if (selectedCount > 1) selectedCount--;
         // Note: We intentionally do not auto-trigger here; user must reconfirm or reselect as needed.
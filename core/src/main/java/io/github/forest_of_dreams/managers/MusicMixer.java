@@ -0,0 +1,174 @@
+package io.github.forest_of_dreams.managers;
+
+import com.badlogic.gdx.audio.Music;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Two-stream music mixer with time-based gain envelopes.
+ * The current track and the ones fading out each carry their own envelope, so a crossfade is the old
+ * stream fading out while the new one fades in on top of it. Fades use equal-power curves and are driven
+ * by elapsed seconds, not frame count. update() returns immediately unless an envelope is running or the
+ * music volume setting changed.
+ * Streams handed to play() are owned by the mixer from then on and released to AssetService when they stop.
+ */
+final class MusicMixer {
+    private static final float HALF_PI = (float) (Math.PI / 2);
+
+    private static final class Channel {
+        final Music music;
+        final String path;
+        float gain = 0f;      // envelope value in [0, 1]
+        float from = 0f;      // gain when the running envelope started
+        float elapsed = 0f;   // seconds
+        float duration = 0f;  // seconds; 0 = no envelope running
+        boolean out = false;  // fading out: stopped and released when the envelope ends
+
+        Channel(Music music, String path) {
+            this.music = music;
+            this.path = path;
+        }
+
+        void startEnvelope(boolean out, float seconds) {
+            this.out = out;
+            this.from = gain;
+            this.elapsed = 0f;
+            this.duration = seconds;
+        }
+    }
+
+    private Channel current = null;
+    private final List<Channel> outgoing = new ArrayList<>(1);
+    private float volume = 0f; // last applied music volume scale
+    private final Runnable onCurrentEnded;
+    private final Music.OnCompletionListener completion;
+
+    MusicMixer(Runnable onCurrentEnded) {
+        this.onCurrentEnded = onCurrentEnded;
+        // Only the current stream ending advances the playlist; streams that are fading out just stop
+        this.completion = music -> {
+            if (current != null && current.music == music) this.onCurrentEnded.run();
+        };
+    }
+
+    /**
+     * Make 'music' the current track. The previous track fades out over 'fadeOutSeconds' while the new
+     * one fades in over 'fadeInSeconds'; a duration of 0 cuts immediately.
+     */
+    void play(Music music, String path, float fadeInSeconds, float fadeOutSeconds, float volumeScale) {
+        volume = volumeScale;
+        if (current != null && current.music == music) {
+            // Already the current stream: keep playing and drop the extra reference
+            AssetService.release(path);
+            return;
+        }
+        Channel next = takeOutgoing(music);
+        if (next != null) {
+            // Fading back in a stream that was on its way out
+            AssetService.release(path);
+        } else {
+            next = new Channel(music, path);
+        }
+
+        if (current != null) {
+            if (fadeOutSeconds > 0f) {
+                current.startEnvelope(true, fadeOutSeconds);
+                outgoing.add(current);
+            } else {
+                stop(current);
+            }
+        }
+
+        current = next;
+        if (fadeInSeconds > 0f) {
+            next.startEnvelope(false, fadeInSeconds);
+        } else {
+            next.gain = 1f;
+            next.duration = 0f;
+        }
+        music.setOnCompletionListener(completion);
+        music.setVolume(next.gain * volume);
+        if (!music.isPlaying()) music.play();
+    }
+
+    /** Fade the current track out without starting another one. */
+    void fadeOut(float seconds) {
+        if (current == null) return;
+        if (seconds > 0f) {
+            current.startEnvelope(true, seconds);
+            outgoing.add(current);
+        } else {
+            stop(current);
+        }
+        current = null;
+    }
+
+    /** Stop the current track immediately (it is released). */
+    void stopCurrent() {
+        if (current == null) return;
+        stop(current);
+        current = null;
+    }
+
+    boolean isPlaying() {
+        return current != null;
+    }
+
+    boolean isFading() {
+        return (current != null && current.duration > 0f) || !outgoing.isEmpty();
+    }
+
+    void update(float deltaSeconds, float volumeScale) {
+        boolean volumeChanged = volumeScale != volume;
+        if (!volumeChanged && !isFading()) return;
+        volume = volumeScale;
+        if (current != null) step(current, deltaSeconds);
+        Iterator<Channel> it = outgoing.iterator();
+        while (it.hasNext()) {
+            Channel c = it.next();
+            step(c, deltaSeconds);
+            if (c.duration == 0f) {
+                stop(c);
+                it.remove();
+            }
+        }
+    }
+
+    void dispose() {
+        outgoing.forEach(this::stop);
+        outgoing.clear();
+        stopCurrent();
+    }
+
+    // Advance a channel's envelope and apply its gain
+    private void step(Channel c, float deltaSeconds) {
+        if (c.duration > 0f) {
+            c.elapsed += deltaSeconds;
+            float p = Math.min(1f, c.elapsed / c.duration);
+            if (c.out) c.gain = Math.max(0f, c.from * (float) Math.cos(p * HALF_PI));
+            else c.gain = c.from + (1f - c.from) * (float) Math.sin(p * HALF_PI);
+            if (p >= 1f) c.duration = 0f;
+        }
+        c.music.setVolume(c.gain * volume);
+    }
+
+    private Channel takeOutgoing(Music music) {
+        Iterator<Channel> it = outgoing.iterator();
+        while (it.hasNext()) {
+            Channel c = it.next();
+            if (c.music == music) {
+                it.remove();
+                return c;
+            }
+        }
+        return null;
+    }
+
+    private void stop(Channel c) {
+        c.music.setOnCompletionListener(null);
+        c.music.stop();
+        AssetService.release(c.path);
+    }
+}
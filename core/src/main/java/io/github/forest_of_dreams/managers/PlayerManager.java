@@ -7,11 +7,10 @@ import io.github.forest_of_dreams.game_objects.cards.Deck;
 import io.github.forest_of_dreams.game_objects.cards.Hand;
 import io.github.forest_of_dreams.interfaces.Renderable;
 import io.github.forest_of_dreams.multiplayer.EventBus;
-import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Owns PlayerState for P1 and P2 and performs per-turn start/end actions
@@ -66,20 +65,14 @@ public class PlayerManager {
         // +1 mana
         ps.mana += 1;
         // Emit mana changed
-        EventBus.emit(
-            GameEventType.MANA_CHANGED,
-            Map.of("player", id.name(), "mana", ps.mana)
-        );
+        EventBus.emit(new GameEvents.ManaChanged(id, ps.mana));
         // Draw 3
         draw(ps, 3);
         // Ensure bot hand visibility rules (flip P2 hand to back during bot's turn)
         applyBotHandVisibilityOnTurnStart(id);
         // Reset actions for that player's pieces on all boards currently rendered
         resetActionsFor(id);
-        EventBus.emit(
-            GameEventType.ACTIONS_RESET,
-            Map.of("player", id.name())
-        );
+        EventBus.emit(new GameEvents.ActionsReset(id));
     }
 
     public static void onEndTurn(PieceAlignment id) {
@@ -87,10 +80,7 @@ public class PlayerManager {
         // Discard hand (all cards)
         int discarded = (ps.hand == null ? 0 : ps.hand.getCards().size());
         discardHand(ps);
-        EventBus.emit(
-            GameEventType.CARD_DISCARDED,
-            Map.of("player", id.name(), "count", discarded)
-        );
+        EventBus.emit(new GameEvents.CardDiscarded(id, discarded));
     }
 
     private static void draw(PlayerState ps, int n) {
@@ -76,4 +76,11 @@ public final class RenderPipeline {
         GraphicsManager.renderPauseUI(batch);
         batch.end();
     }
+
+    public static void drawProfilerOverlay(SpriteBatch batch) {
+        if (!FrameProfiler.isEnabled()) return;
+        batch.begin();
+        FrameProfiler.renderOverlay(batch);
+        batch.end();
+    }
 }
@@ -0,0 +1,208 @@
+package io.github.forest_of_dreams.managers;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Affine2;
+
+import java.util.Arrays;
+
+/**
+ * Per-frame render command queue for game graphics.
+ * Renderables draw into it exactly like into a SpriteBatch, but nothing reaches the GPU: every draw call is
+ * recorded as a command (z, texture, quad vertices with the current batch color). flushTo() orders the
+ * commands by z and submits them to the real batch in one pass, so the scene is traversed once per frame
+ * instead of once per z level.
+ * Within a z level commands keep their submission order, since overlapping draws on the same layer rely on it.
+ * Only the axis-aligned draw variants used by game renderables are recorded; rotated, scaled, flipped,
+ * src-rect and Affine2 variants throw UnsupportedOperationException instead of drawing nothing.
+ * The queue owns a (minimal) SpriteBatch mesh and shader, so it must be disposed like any batch.
+ */
+public class RenderQueue extends SpriteBatch {
+    private static final int QUAD = 20; // 4 vertices * (x, y, color, u, v)
+
+    private int z = 0;
+    private int count = 0;
+    private Texture[] textures = new Texture[256];
+    private int[] offsets = new int[256];
+    private int[] lengths = new int[256];
+    // Sort keys: z in the high 32 bits, submission index in the low 32 bits
+    private long[] keys = new long[256];
+    private float[] vertices = new float[256 * QUAD];
+    private int vertexCount = 0;
+
+    public RenderQueue() {
+        // The backing mesh is never used for drawing; keep it minimal
+        super(1);
+    }
+
+    /** Z level assigned to the commands recorded from now on. */
+    public void setZ(int z) {
+        this.z = z;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    public int getCommandCount() {
+        return count;
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        quad(texture, x, y, width, height, 0, 1, 1, 0);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        quad(texture, x, y, texture.getWidth(), texture.getHeight(), 0, 1, 1, 0);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        quad(texture, x, y, width, height, u, v, u2, v2);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        quad(region.getTexture(), x, y, width, height, region.getU(), region.getV2(), region.getU2(), region.getV());
+    }
+
+    // Used by BitmapFontCache (Text labels): already expanded quads
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int length) {
+        if (length <= 0) return;
+        int start = reserve(texture, length);
+        System.arraycopy(spriteVertices, offset, vertices, start, length);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight,
+                     boolean flipX, boolean flipY) {
+        throw unsupported("draw(Texture, ..., rotation, srcX, srcY, srcWidth, srcHeight, flipX, flipY)");
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY,
+                     int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        throw unsupported("draw(Texture, x, y, width, height, srcX, srcY, srcWidth, srcHeight, flipX, flipY)");
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        throw unsupported("draw(Texture, x, y, srcX, srcY, srcWidth, srcHeight)");
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation) {
+        throw unsupported("draw(TextureRegion, ..., scaleX, scaleY, rotation)");
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation, boolean clockwise) {
+        throw unsupported("draw(TextureRegion, ..., rotation, clockwise)");
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        throw unsupported("draw(TextureRegion, width, height, Affine2)");
+    }
+
+    private static UnsupportedOperationException unsupported(String variant) {
+        return new UnsupportedOperationException("RenderQueue does not record " + variant
+            + "; draw with an axis-aligned variant or add recording support for it");
+    }
+
+    // Same vertex layout SpriteBatch uses for an axis-aligned quad
+    private void quad(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        float fx2 = x + width;
+        float fy2 = y + height;
+        float color = getPackedColor();
+        int i = reserve(texture, QUAD);
+        float[] vs = vertices;
+        vs[i] = x;      vs[i + 1] = y;    vs[i + 2] = color;  vs[i + 3] = u;   vs[i + 4] = v;
+        vs[i + 5] = x;  vs[i + 6] = fy2;  vs[i + 7] = color;  vs[i + 8] = u;   vs[i + 9] = v2;
+        vs[i + 10] = fx2; vs[i + 11] = fy2; vs[i + 12] = color; vs[i + 13] = u2; vs[i + 14] = v2;
+        vs[i + 15] = fx2; vs[i + 16] = y;   vs[i + 17] = color; vs[i + 18] = u2; vs[i + 19] = v;
+    }
+
+    // Append a command and return the offset of its vertex slot
+    private int reserve(Texture texture, int length) {
+        if (count == textures.length) {
+            int cap = count * 2;
+            textures = Arrays.copyOf(textures, cap);
+            offsets = Arrays.copyOf(offsets, cap);
+            lengths = Arrays.copyOf(lengths, cap);
+            keys = Arrays.copyOf(keys, cap);
+        }
+        if (vertexCount + length > vertices.length) {
+            vertices = Arrays.copyOf(vertices, Math.max(vertices.length * 2, vertexCount + length));
+        }
+        int start = vertexCount;
+        textures[count] = texture;
+        offsets[count] = start;
+        lengths[count] = length;
+        keys[count] = ((long) z << 32) | count;
+        count++;
+        vertexCount += length;
+        return start;
+    }
+
+    /** Submit all recorded commands to 'batch' (which must be drawing) ordered by z, then clear the queue. */
+    public void flushTo(SpriteBatch batch) {
+        if (count > 0) {
+            Arrays.sort(keys, 0, count);
+            if (FrameProfiler.isEnabled()) {
+                submitProfiled(batch);
+            } else {
+                for (int k = 0; k < count; k++) {
+                    int i = (int) keys[k];
+                    batch.draw(textures[i], vertices, offsets[i], lengths[i]);
+                }
+            }
+        }
+        clear();
+    }
+
+    // Same submission, timing each z level and counting texture switches (each one flushes the batch)
+    private void submitProfiled(SpriteBatch batch) {
+        int runZ = (int) (keys[0] >> 32);
+        long runStart = System.nanoTime();
+        Texture last = null;
+        int switches = 0;
+        for (int k = 0; k < count; k++) {
+            int i = (int) keys[k];
+            int kz = (int) (keys[k] >> 32);
+            if (kz != runZ) {
+                long now = System.nanoTime();
+                FrameProfiler.addZ(runZ, now - runStart);
+                runZ = kz;
+                runStart = now;
+            }
+            if (textures[i] != last) {
+                if (last != null) switches++;
+                last = textures[i];
+            }
+            batch.draw(textures[i], vertices, offsets[i], lengths[i]);
+        }
+        FrameProfiler.addZ(runZ, System.nanoTime() - runStart);
+        FrameProfiler.add(FrameProfiler.TEXTURE_SWITCHES, switches);
+    }
+
+    /** Drop all recorded commands without drawing them. */
+    public void clear() {
+        Arrays.fill(textures, 0, count, null);
+        count = 0;
+        vertexCount = 0;
+        z = 0;
+    }
+}
@@ -12,6 +12,7 @@ public class SettingsManager {
     public static final SoundSetting sound = new SoundSetting();
     public static final ScreenSize screenSize = new ScreenSize();
     public static final DebugSettings debug = new DebugSettings();
+    public static final BotSettings bot = new BotSettings();
 
     public static void initialize() {
         screenSize.initialize();
@@ -24,4 +25,12 @@ public class SettingsManager {
         // Enable or disable the simple P2 bot. When false, BotManager will not act.
         public boolean enableP2Bot = true;
     }
+
+    public static final class BotSettings {
+        // Search budget the P2 bot may spend over one whole turn; each decision takes half of what is left.
+        public long turnTimeBudgetMs = 400;
+        public long turnNodeBudget = 100_000;
+        // Root-parallel search workers; one core is left for the render thread
+        public int searchThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
 }
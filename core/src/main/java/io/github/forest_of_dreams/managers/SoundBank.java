@@ -0,0 +1,75 @@
+package io.github.forest_of_dreams.managers;
+
+import com.badlogic.gdx.audio.Sound;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decoded sound effects keyed by asset path.
+ * Each effect is acquired from AssetService once and kept until dispose(). Every effect has a fixed number of
+ * voices: playing it while all voices may still be sounding stops the oldest one, so rapid retriggers never
+ * stack up unbounded instances.
+ */
+final class SoundBank {
+    private final int voicesPerSound;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private static final class Entry {
+        final Sound sound;
+        final long[] voices; // instance ids in play order (ring); -1 = free
+        int next = 0;
+
+        Entry(Sound sound, int voiceCount) {
+            this.sound = sound;
+            this.voices = new long[voiceCount];
+            Arrays.fill(voices, -1);
+        }
+    }
+
+    SoundBank(int voicesPerSound) {
+        this.voicesPerSound = Math.max(1, voicesPerSound);
+    }
+
+    /** The shared handle for 'path', decoding it on first use. Callers must not dispose it. */
+    Sound get(String path) {
+        return entry(path).sound;
+    }
+
+    /** Play 'path' at 'volume', stealing its oldest voice if all are taken. Returns the instance id or -1. */
+    long play(String path, float volume) {
+        Entry e = entry(path);
+        long oldest = e.voices[e.next];
+        // Stopping an instance that already finished is a no-op
+        if (oldest != -1) e.sound.stop(oldest);
+        long id = e.sound.play(volume);
+        e.voices[e.next] = id;
+        e.next = (e.next + 1) % e.voices.length;
+        return id;
+    }
+
+    void stopAll() {
+        for (Entry e : entries.values()) {
+            e.sound.stop();
+            Arrays.fill(e.voices, -1);
+        }
+    }
+
+    void dispose() {
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            e.getValue().sound.stop();
+            AssetService.release(e.getKey());
+        }
+        entries.clear();
+    }
+
+    private Entry entry(String path) {
+        Entry e = entries.get(path);
+        if (e == null) {
+            e = new Entry(AssetService.acquire(path, Sound.class), voicesPerSound);
+            entries.put(path, e);
+        }
+        return e;
+    }
+}
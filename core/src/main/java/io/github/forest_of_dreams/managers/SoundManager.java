@@ -10,146 +10,94 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class SoundManager {
-    private static Music currentMusic = null;
-    private static final List<Music> musicQueue = new ArrayList<>();
-
-    @Setter
-    private static boolean isMusicPlaying = false;
-    @Setter
-    private static boolean isFadingOut = false;
-    @Setter
-    private static boolean isFadingIn = false;
-    @Setter
-    private static boolean immediateTransition = false;
-    @Setter
-    private static boolean isTransitioning = false;
+    // Tracks waiting to play; each holds an AssetService reference that passes to the mixer when it starts
+    private record QueuedTrack(Music music, String path) {}
+    private static final List<QueuedTrack> musicQueue = new ArrayList<>();
+    private static final MusicMixer mixer = new MusicMixer(SoundManager::onTrackCompleted);
+    // Decoded SFX, at most this many overlapping instances of the same effect
+    private static final int SFX_VOICES = 4;
+    private static final SoundBank sounds = new SoundBank(SFX_VOICES);
+
+    // When set, a finished track does not start the next queued one until startTrack() is called
     @Setter
     private static boolean pauseOnCompletion = false;
 
-    private static float fadeOutTime = 0; // Milliseconds
-    private static float fadeOutScale = 1f;
-
-    private static float fadeInTime = 0;
-    private static float fadeInScale = 0;
-
-    private static final Music.OnCompletionListener completionListener = new Music.OnCompletionListener() {
-        @Override
-        public void onCompletion(Music music) {
-            cleanupTrack();
-            if (!musicQueue.isEmpty()) {
-                currentMusic = musicQueue.remove(0);
-                if (!pauseOnCompletion) {
-                    startTrack();
-                    setPauseOnCompletion(false);
-                }
-            } else {
-                currentMusic = null;
-            }
-        }
-    };
-
+    private static void onTrackCompleted() {
+        mixer.stopCurrent();
+        if (!musicQueue.isEmpty() && !pauseOnCompletion) startTrack();
+    }
 
+    /** Advances running fades; does nothing on frames without a fade or a music volume change. */
     public static void update() {
-        float musicVolume = SettingsManager.sound.getVolumeScale(SoundType.Music);
-        if (isTransitioning) {
-            float timeDelta = (Gdx.graphics.getDeltaTime() * SettingsManager.getFPS());
-
-            if (immediateTransition) {
-                setImmediateTransition(false);
-                if (currentMusic != null) cleanupTrack();
-
-                currentMusic = musicQueue.remove(0);
-                currentMusic.setVolume(musicVolume);
-                currentMusic.play();
-            } else if (isFadingOut) {
-                fadeOutScale -= (fadeOutScale / fadeOutTime) * timeDelta;
-                currentMusic.setVolume(fadeOutScale * musicVolume);
-
-                if (fadeOutScale <= 0) {
-                    cleanupTrack();
-
-                    fadeOutScale = 1f;
-                    fadeOutTime = 0;
-
-                    setFadingOut(false);
-                    if (!musicQueue.isEmpty()) {
-                        setFadingIn(true);
-                        fadeInScale = 0;
-                        currentMusic = musicQueue.remove(0);
-                        currentMusic.setVolume(fadeInScale);
-                        currentMusic.play();
-                    } else {
-                        setTransitioning(false);
-                    }
-                }
-            } else if (isFadingIn) {
-                fadeInScale += (fadeInScale / fadeInTime) * timeDelta;
-
-                currentMusic.setVolume(fadeInScale * musicVolume);
-
-                if (fadeInScale >= 1) {
-                    currentMusic.setVolume(musicVolume);
-                    fadeInScale = 0;
-                    fadeInTime = 0;
-
-                    setFadingIn(false);
-                    setTransitioning(false);
-                }
-            } else {
-                setTransitioning(false);
-            }
-        } else {
-            if (isMusicPlaying) currentMusic.setVolume(musicVolume);
-        }
+        mixer.update(Gdx.graphics.getDeltaTime(), musicVolume());
     }
 
+    /**
+     * Play a sound effect from assets/audio. The file is decoded once and shared; the returned handle
+     * must not be disposed.
+     */
     public static Sound playSound(String path) {
         float volume = SettingsManager.sound.getVolumeScale(SoundType.SFX);
-        Sound sound = Gdx.audio.newSound(Gdx.files.internal("audio/" + path));
-        sound.play(volume);
-        return sound;
+        String assetPath = "audio/" + path;
+        sounds.play(assetPath, volume);
+        return sounds.get(assetPath);
+    }
+
+    /** Decode a sound effect ahead of its first use. */
+    public static void preloadSound(String path) {
+        sounds.get("audio/" + path);
+    }
+
+    public static void stopAllSounds() {
+        sounds.stopAll();
     }
 
+    /** Open a track from assets/music and append it to the queue; the stream is ready before it is needed. */
     public static void queueMusic(String path) {
-        float volume = SettingsManager.sound.getVolumeScale(SoundType.Music);
-        Music music = Gdx.audio.newMusic(Gdx.files.internal("music/" + path));
-        music.setVolume(volume);
-        musicQueue.add(music);
+        String assetPath = "music/" + path;
+        Music music = AssetService.acquire(assetPath, Music.class);
+        musicQueue.add(new QueuedTrack(music, assetPath));
     }
 
     /**
+     * Crossfade from the current track to the next queued one; both streams play while the fades overlap.
+     * Without a current track the next one just fades in.
      *
      * @param fadeOut time in milliseconds
      * @param fadeIn time in milliseconds
      */
     public static void fadeTransition(int fadeOut, int fadeIn) {
-        fadeOutTime = fadeOut;
-        fadeInTime = fadeIn;
-        if (isMusicPlaying) {
-            setTransitioning(true);
-            setFadingOut(true);
+        if (musicQueue.isEmpty()) {
+            mixer.fadeOut(fadeOut / 1000f);
+            return;
         }
+        QueuedTrack next = musicQueue.remove(0);
+        mixer.play(next.music(), next.path(), fadeIn / 1000f, fadeOut / 1000f, musicVolume());
     }
 
+    /** Cut to the next queued track immediately. */
     public static void transition() {
-        setTransitioning(true);
-        setImmediateTransition(true);
+        fadeTransition(0, 0);
     }
 
-    private static void cleanupTrack() {
-        currentMusic.stop();
-        currentMusic.dispose();
+    /** Start the next queued track (e.g. after a track finished with pauseOnCompletion set). */
+    public static void startTrack() {
+        transition();
     }
 
-    private static void pauseTrack() {
-        setMusicPlaying(false);
-        currentMusic.pause();
+    public static boolean isMusicPlaying() {
+        return mixer.isPlaying();
     }
 
-    public static void startTrack() {
-        setMusicPlaying(true);
-        float musicVolume = SettingsManager.sound.getVolumeScale(SoundType.Music);
-        currentMusic.setVolume(musicVolume);
-        currentMusic.play();
+    /** Stop all audio and release every sound and music stream; called on shutdown. */
+    public static void dispose() {
+        sounds.dispose();
+        mixer.dispose();
+        musicQueue.forEach(t -> AssetService.release(t.path()));
+        musicQueue.clear();
+    }
+
+    private static float musicVolume() {
+        return SettingsManager.sound.getVolumeScale(SoundType.Music);
     }
 }
@@ -0,0 +1,115 @@
+package io.github.forest_of_dreams.managers;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.forest_of_dreams.path_loaders.ImagePathBackgroundAndUI;
+import io.github.forest_of_dreams.path_loaders.ImagePathSpritesAndAnimations;
+import io.github.forest_of_dreams.utils.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single owner of image textures.
+ * On initialize() every image listed in ImagePathSpritesAndAnimations and ImagePathBackgroundAndUI is packed
+ * into a runtime TextureAtlas, so each image is uploaded once and most sprites share a few atlas pages.
+ * Source pixmaps come from AssetService (see getSourceAssets() to preload them) and are released once packed.
+ * Regions are looked up by asset path. Images that do not fit on a page, or paths outside the enums,
+ * get one standalone Texture each, still loaded only once.
+ */
+public class TextureManager {
+    private static final int PAGE_SIZE = 2048; // px
+    private static final int PADDING = 2; // px between packed images
+
+    private static TextureAtlas atlas = null;
+    private static final Map<String, TextureRegion> regions = new HashMap<>();
+    // Standalone textures: built here from oversized atlas images, or acquired from AssetService by path
+    private static final List<Texture> owned = new ArrayList<>();
+    private static final List<String> standalone = new ArrayList<>();
+
+    public static void initialize() {
+        if (atlas != null) return;
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+        List<String> packed = new ArrayList<>();
+        for (String path : imagePaths()) {
+            Pixmap pixmap;
+            try {
+                pixmap = AssetService.acquire(path, Pixmap.class);
+            } catch (Exception e) {
+                Logger.error("TextureManager", "Could not load " + path + ": " + e.getMessage());
+                continue;
+            }
+            if (pixmap.getWidth() <= PAGE_SIZE - PADDING * 2 && pixmap.getHeight() <= PAGE_SIZE - PADDING * 2) {
+                packer.pack(path, pixmap);
+                packed.add(path);
+            } else {
+                // Too large for an atlas page (e.g. full-screen backgrounds): upload it on its own
+                Texture texture = new Texture(pixmap);
+                owned.add(texture);
+                regions.put(path, new TextureRegion(texture));
+            }
+            // Both the packer and the texture copy the pixels, so the source can go right away
+            AssetService.release(path);
+        }
+        atlas = packer.generateTextureAtlas(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        // Page pixmaps are owned by their textures from here on
+        packer.dispose();
+        for (String path : packed) {
+            TextureRegion region = atlas.findRegion(path);
+            if (region != null) regions.put(path, region);
+        }
+        Logger.log("TextureManager", "Packed " + packed.size() + " images into " + atlas.getTextures().size + " atlas page(s)");
+    }
+
+    /** The full image at 'path' as a region; the underlying texture is shared and must not be disposed. */
+    public static TextureRegion getRegion(String path) {
+        if (atlas == null) initialize();
+        TextureRegion region = regions.get(path);
+        if (region != null) return region;
+        // Not part of the atlas: load it on its own, once
+        return loadStandalone(path);
+    }
+
+    public static void dispose() {
+        if (atlas != null) atlas.dispose();
+        atlas = null;
+        owned.forEach(Texture::dispose);
+        owned.clear();
+        standalone.forEach(AssetService::release);
+        standalone.clear();
+        regions.clear();
+    }
+
+    private static TextureRegion loadStandalone(String path) {
+        Texture texture = AssetService.acquire(path, Texture.class);
+        standalone.add(path);
+        TextureRegion region = new TextureRegion(texture);
+        regions.put(path, region);
+        return region;
+    }
+
+    /**
+     * Pixmap descriptors of every atlas image, for background preloading before initialize().
+     * Preload them without acquiring: initialize() takes and drops the only reference, unloading each source.
+     */
+    public static List<AssetDescriptor<?>> getSourceAssets() {
+        List<AssetDescriptor<?>> assets = new ArrayList<>();
+        for (String path : imagePaths()) assets.add(new AssetDescriptor<>(path, Pixmap.class));
+        return assets;
+    }
+
+    private static Set<String> imagePaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (ImagePathSpritesAndAnimations image : ImagePathSpritesAndAnimations.values()) paths.add(image.getPath());
+        for (ImagePathBackgroundAndUI image : ImagePathBackgroundAndUI.values()) paths.add(image.getPath());
+        return paths;
+    }
+}
@@ -4,8 +4,7 @@ import io.github.forest_of_dreams.enums.PieceAlignment;
 import io.github.forest_of_dreams.game_objects.board.Board;
 import io.github.forest_of_dreams.interfaces.Renderable;
 import io.github.forest_of_dreams.multiplayer.EventBus;
-import io.github.forest_of_dreams.multiplayer.GameEventType;
-import java.util.Map;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 
 /**
  * Minimal turn manager: tracks current player and invokes PlayerManager
@@ -26,7 +25,7 @@ public class TurnManager {
             // Notify abilities on turn start (Option A)
             notifyBoardsTurnStarted(current);
             // Emit TURN_STARTED
-            EventBus.emit(GameEventType.TURN_STARTED, Map.of("player", current.name()));
+            EventBus.emit(new GameEvents.TurnStarted(current));
         }
     }
 
@@ -36,7 +35,7 @@ public class TurnManager {
         PlayerManager.onStartTurn(current);
         // Notify abilities on turn start
         notifyBoardsTurnStarted(current);
-        EventBus.emit(GameEventType.TURN_STARTED, Map.of("player", current.name()));
+        EventBus.emit(new GameEvents.TurnStarted(current));
     }
 
     public static void endTurn() {
@@ -46,14 +45,14 @@ public class TurnManager {
         // End current player's turn
         PlayerManager.onEndTurn(current);
         // Emit TURN_ENDED for the current player
-        EventBus.emit(GameEventType.TURN_ENDED, Map.of("player", current.name()));
+        EventBus.emit(new GameEvents.TurnEnded(current));
         // Switch player
         current = (current == PieceAlignment.P1) ? PieceAlignment.P2 : PieceAlignment.P1;
         // Start next player's turn
         PlayerManager.onStartTurn(current);
         // Notify abilities on turn start for the new player
         notifyBoardsTurnStarted(current);
-        EventBus.emit(GameEventType.TURN_STARTED, Map.of("player", current.name()));
+        EventBus.emit(new GameEvents.TurnStarted(current));
     }
 
     private static void notifyBoardsTurnStarted(PieceAlignment player) {
@@ -7,12 +7,12 @@ import io.github.forest_of_dreams.managers.Game;
 import io.github.forest_of_dreams.multiplayer.EventBus;
 import io.github.forest_of_dreams.multiplayer.GameEvent;
 import io.github.forest_of_dreams.multiplayer.GameEventType;
+import io.github.forest_of_dreams.multiplayer.GameEvents;
 import io.github.forest_of_dreams.utils.Logger;
 import io.github.forest_of_dreams.rooms.VictoryRoom;
 import com.badlogic.gdx.utils.Timer;
 
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -48,31 +48,19 @@ public final class WinConditionManager {
 
     private static void handleEvent(GameEvent evt) {
         if (gameWon) return;
-        Map<String, Object> data = evt.getData();
-        if (data == null) return;
-        // Owner alignment is provided as string name in events we emit
-        Object ownerObj = data.get("owner");
-        if (ownerObj == null) return;
+        // Destination row differs per event
         PieceAlignment owner;
-        try {
-            owner = PieceAlignment.valueOf(ownerObj.toString());
-        } catch (IllegalArgumentException ex) {
+        int destRow;
+        if (evt instanceof GameEvents.PieceMoved moved) {
+            owner = moved.owner();
+            destRow = moved.toRow();
+        } else if (evt instanceof GameEvents.PieceSpawned spawned) {
+            owner = spawned.owner();
+            destRow = spawned.row();
+        } else {
             return;
         }
-        // Destination row key differs per event
-        Integer destRow = null;
-        if (evt.getType() == GameEventType.PIECE_MOVED) {
-            Object v = data.get("toRow");
-            if (v instanceof Integer i) destRow = i; else if (v != null) {
-                try { destRow = Integer.parseInt(v.toString()); } catch (NumberFormatException ignored) {}
-            }
-        } else if (evt.getType() == GameEventType.PIECE_SPAWNED) {
-            Object v = data.get("row");
-            if (v instanceof Integer i) destRow = i; else if (v != null) {
-                try { destRow = Integer.parseInt(v.toString()); } catch (NumberFormatException ignored) {}
-            }
-        }
-        if (destRow == null) return;
+        if (owner == null) return;
 
         Integer rows = getActiveBoardRows();
         if (rows == null) return; // can't evaluate without a board
@@ -1,32 +1,78 @@
 package io.github.forest_of_dreams.multiplayer;
 
-import java.util.ArrayList;
+import io.github.forest_of_dreams.utils.Logger;
+
+import java.util.Arrays;
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 /**
  * Minimal static event bus for gameplay events.
+ * Emit typed events from {@link GameEvents}. The Map-based emit remains for legacy callers and converts
+ * their payload into the same typed records, so typed listeners see both paths.
  */
 public class EventBus {
-    private static final Map<GameEventType, List<Consumer<GameEvent>>> listeners = new EnumMap<>(GameEventType.class);
+    @SuppressWarnings("unchecked")
+    private static final Consumer<GameEvent>[] NONE = new Consumer[0];
+    // Copy-on-write listener arrays: register/unregister replace the array, emit iterates it without copying.
+    // An emit that is already running keeps iterating the array it started with.
+    private static final Map<GameEventType, Consumer<GameEvent>[]> listeners = new EnumMap<>(GameEventType.class);
 
     public static void register(GameEventType type, Consumer<GameEvent> listener) {
-        listeners.computeIfAbsent(type, k -> new ArrayList<>()).add(listener);
+        Consumer<GameEvent>[] current = listeners.getOrDefault(type, NONE);
+        Consumer<GameEvent>[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = listener;
+        listeners.put(type, next);
+    }
+
+    /**
+     * Register a listener for one typed event class. Returns the adapter actually registered,
+     * which must be passed to unregister(type, adapter) to remove it.
+     */
+    public static <E extends GameEvent> Consumer<GameEvent> register(GameEventType type, Class<E> eventClass, Consumer<? super E> listener) {
+        Consumer<GameEvent> adapter = evt -> {
+            if (eventClass.isInstance(evt)) listener.accept(eventClass.cast(evt));
+        };
+        register(type, adapter);
+        return adapter;
     }
 
     public static void unregister(GameEventType type, Consumer<GameEvent> listener) {
-        List<Consumer<GameEvent>> list = listeners.get(type);
-        if (list != null) list.remove(listener);
+        Consumer<GameEvent>[] current = listeners.getOrDefault(type, NONE);
+        for (int i = 0; i < current.length; i++) {
+            if (!current[i].equals(listener)) continue;
+            // Remove the first match only, like List.remove(Object)
+            Consumer<GameEvent>[] next = Arrays.copyOf(current, current.length - 1);
+            System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+            listeners.put(type, next);
+            return;
+        }
+    }
+
+    /** Number of listeners currently registered for the given type. */
+    public static int getListenerCount(GameEventType type) {
+        return listeners.getOrDefault(type, NONE).length;
+    }
+
+    public static void emit(GameEvent event) {
+        Consumer<GameEvent>[] snapshot = listeners.getOrDefault(event.getType(), NONE);
+        for (Consumer<GameEvent> c : snapshot) c.accept(event);
     }
 
+    /**
+     * Legacy untyped emit. The payload is converted with GameEvents.fromData, so listeners receive the typed record;
+     * a payload that does not match the record (missing or malformed keys) is delivered as a MapGameEvent and logged.
+     * Prefer emit(GameEvent) with a GameEvents record.
+     */
     public static void emit(GameEventType type, Map<String, Object> data) {
-        List<Consumer<GameEvent>> list = listeners.get(type);
-        if (list == null || list.isEmpty()) return;
-        GameEvent evt = new GameEvent(type, data);
-        // Copy to avoid concurrent modification if listeners change during callback
-        List<Consumer<GameEvent>> snapshot = new ArrayList<>(list);
-        for (Consumer<GameEvent> c : snapshot) c.accept(evt);
+        if (getListenerCount(type) == 0) return;
+        GameEvent typed = GameEvents.fromData(type, data);
+        if (typed == null) {
+            Logger.error("EventBus", "Legacy " + type + " payload " + data + " does not match its typed event; typed listeners will ignore it");
+            emit(new MapGameEvent(type, data));
+            return;
+        }
+        emit(typed);
     }
 }
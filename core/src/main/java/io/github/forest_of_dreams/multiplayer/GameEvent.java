@@ -1,18 +1,14 @@
 package io.github.forest_of_dreams.multiplayer;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
-public class GameEvent {
-    private final GameEventType type;
-    private final Map<String, Object> data;
+/**
+ * A gameplay event. Concrete events are the typed records in {@link GameEvents}; listeners should
+ * pattern-match on them (e.g. {@code evt instanceof GameEvents.PieceMoved m}) to read fields directly.
+ * getData() is the legacy string-keyed view for older listeners and debug logging; typed events build it on demand.
+ */
+public interface GameEvent {
+    GameEventType getType();
 
-    public GameEvent(GameEventType type, Map<String, Object> data) {
-        this.type = type;
-        this.data = (data == null) ? new HashMap<>() : new HashMap<>(data);
-    }
-
-    public GameEventType getType() { return type; }
-    public Map<String, Object> getData() { return Collections.unmodifiableMap(data); }
+    Map<String, Object> getData();
 }
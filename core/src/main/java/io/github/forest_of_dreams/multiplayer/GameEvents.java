@@ -0,0 +1,185 @@
+package io.github.forest_of_dreams.multiplayer;
+
+import io.github.forest_of_dreams.enums.PieceAlignment;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Typed event records, one per GameEventType. Fields are primitives, enums and UUIDs, so emitting an
+ * event is a single small allocation with no boxing or string keys. getData() rebuilds the legacy
+ * key/value payload (same keys and value formats as before) only when a listener asks for it.
+ * fromData() is the inverse, used to turn legacy Map emits into the same typed records.
+ */
+public final class GameEvents {
+    private GameEvents() {}
+
+    // Legacy payloads used "UNKNOWN" for a missing owner
+    private static String name(PieceAlignment a) {
+        return a == null ? "UNKNOWN" : a.name();
+    }
+
+    /**
+     * Build the typed record for a legacy key/value payload (the keys getData() produces).
+     * Values may be the typed field (PieceAlignment, UUID, Number) or its string form.
+     * @return the record, or null when a required key is missing or malformed
+     */
+    public static GameEvent fromData(GameEventType type, Map<String, Object> d) {
+        if (type == null || d == null) return null;
+        try {
+            return switch (type) {
+                case TURN_STARTED -> new TurnStarted(alignment(d, "player"));
+                case TURN_ENDED -> new TurnEnded(alignment(d, "player"));
+                case CARD_DRAWN -> new CardDrawn(alignment(d, "owner"), string(d, "card"), integer(d, "handSize"));
+                case CARD_SHUFFLED -> new CardShuffled(alignment(d, "owner"), integer(d, "deckSize"));
+                case CARD_DISCARDED -> new CardDiscarded(alignment(d, "player"), integer(d, "count"));
+                case CARD_PLAYED -> new CardPlayed(
+                    string(d, "card"), alignment(d, "owner"), integer(d, "row"), integer(d, "col"), uuid(d, "pieceId")
+                );
+                case PIECE_SPAWNED -> new PieceSpawned(uuid(d, "pieceId"), alignment(d, "owner"), integer(d, "row"), integer(d, "col"));
+                case PIECE_MOVED -> new PieceMoved(
+                    uuid(d, "pieceId"), alignment(d, "owner"),
+                    integer(d, "fromRow"), integer(d, "fromCol"), integer(d, "toRow"), integer(d, "toCol")
+                );
+                // Older payloads only carried the defender's cell as row/col
+                case PIECE_ATTACKED -> new PieceAttacked(
+                    uuid(d, "attackerId"), uuid(d, "defenderId"),
+                    integer(d, "attackerRow"), integer(d, "attackerCol"),
+                    integer(d, d.containsKey("defenderRow") ? "defenderRow" : "row"),
+                    integer(d, d.containsKey("defenderCol") ? "defenderCol" : "col"),
+                    integer(d, "damage")
+                );
+                case PIECE_DIED -> new PieceDied(uuid(d, "pieceId"), integer(d, "row"), integer(d, "col"));
+                case MANA_CHANGED -> new ManaChanged(alignment(d, "player"), integer(d, "mana"));
+                case ACTIONS_RESET -> new ActionsReset(alignment(d, "player"));
+                case ACTION_SPENT -> new ActionSpent(uuid(d, "pieceId"), alignment(d, "owner"), integer(d, "remaining"));
+            };
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static Object require(Map<String, Object> d, String key) {
+        Object v = d.get(key);
+        if (v == null) throw new IllegalArgumentException("missing '" + key + "'");
+        return v;
+    }
+
+    // Absent and "UNKNOWN" owners map back to null, matching name()
+    private static PieceAlignment alignment(Map<String, Object> d, String key) {
+        Object v = d.get(key);
+        if (v == null || v instanceof PieceAlignment) return (PieceAlignment) v;
+        String s = v.toString();
+        return s.equals("UNKNOWN") ? null : PieceAlignment.valueOf(s);
+    }
+
+    private static int integer(Map<String, Object> d, String key) {
+        Object v = require(d, key);
+        if (v instanceof Number n) return n.intValue();
+        return Integer.parseInt(v.toString());
+    }
+
+    private static UUID uuid(Map<String, Object> d, String key) {
+        Object v = require(d, key);
+        if (v instanceof UUID u) return u;
+        return UUID.fromString(v.toString());
+    }
+
+    private static String string(Map<String, Object> d, String key) {
+        return String.valueOf(require(d, key));
+    }
+
+    // --- Turn lifecycle ---
+    public record TurnStarted(PieceAlignment player) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.TURN_STARTED; }
+        @Override public Map<String, Object> getData() { return Map.of("player", name(player)); }
+    }
+
+    public record TurnEnded(PieceAlignment player) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.TURN_ENDED; }
+        @Override public Map<String, Object> getData() { return Map.of("player", name(player)); }
+    }
+
+    // --- Cards ---
+    public record CardDrawn(PieceAlignment owner, String card, int handSize) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.CARD_DRAWN; }
+        @Override public Map<String, Object> getData() {
+            return Map.of("owner", name(owner), "card", card, "handSize", handSize);
+        }
+    }
+
+    public record CardShuffled(PieceAlignment owner, int deckSize) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.CARD_SHUFFLED; }
+        @Override public Map<String, Object> getData() { return Map.of("owner", name(owner), "deckSize", deckSize); }
+    }
+
+    public record CardDiscarded(PieceAlignment player, int count) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.CARD_DISCARDED; }
+        @Override public Map<String, Object> getData() { return Map.of("player", name(player), "count", count); }
+    }
+
+    public record CardPlayed(String card, PieceAlignment owner, int row, int col, UUID pieceId) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.CARD_PLAYED; }
+        @Override public Map<String, Object> getData() {
+            return Map.of("card", card, "owner", name(owner), "row", row, "col", col, "pieceId", pieceId.toString());
+        }
+    }
+
+    // --- Board / pieces ---
+    public record PieceSpawned(UUID pieceId, PieceAlignment owner, int row, int col) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.PIECE_SPAWNED; }
+        @Override public Map<String, Object> getData() {
+            return Map.of("pieceId", pieceId.toString(), "owner", name(owner), "row", row, "col", col);
+        }
+    }
+
+    public record PieceMoved(UUID pieceId, PieceAlignment owner, int fromRow, int fromCol, int toRow, int toCol) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.PIECE_MOVED; }
+        @Override public Map<String, Object> getData() {
+            return Map.of(
+                "pieceId", pieceId.toString(), "owner", name(owner),
+                "fromRow", fromRow, "fromCol", fromCol, "toRow", toRow, "toCol", toCol
+            );
+        }
+    }
+
+    public record PieceAttacked(
+        UUID attackerId, UUID defenderId,
+        int attackerRow, int attackerCol, int defenderRow, int defenderCol,
+        int damage
+    ) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.PIECE_ATTACKED; }
+        @Override public Map<String, Object> getData() {
+            return Map.of(
+                "attackerId", attackerId.toString(), "defenderId", defenderId.toString(),
+                "row", defenderRow, "col", defenderCol,
+                "attackerRow", attackerRow, "attackerCol", attackerCol,
+                "defenderRow", defenderRow, "defenderCol", defenderCol,
+                "damage", damage
+            );
+        }
+    }
+
+    public record PieceDied(UUID pieceId, int row, int col) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.PIECE_DIED; }
+        @Override public Map<String, Object> getData() { return Map.of("pieceId", pieceId.toString(), "row", row, "col", col); }
+    }
+
+    // --- Resources / state ---
+    public record ManaChanged(PieceAlignment player, int mana) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.MANA_CHANGED; }
+        @Override public Map<String, Object> getData() { return Map.of("player", name(player), "mana", mana); }
+    }
+
+    public record ActionsReset(PieceAlignment player) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.ACTIONS_RESET; }
+        @Override public Map<String, Object> getData() { return Map.of("player", name(player)); }
+    }
+
+    public record ActionSpent(UUID pieceId, PieceAlignment owner, int remaining) implements GameEvent {
+        @Override public GameEventType getType() { return GameEventType.ACTION_SPENT; }
+        @Override public Map<String, Object> getData() {
+            return Map.of("pieceId", pieceId.toString(), "owner", name(owner), "remaining", remaining);
+        }
+    }
+}
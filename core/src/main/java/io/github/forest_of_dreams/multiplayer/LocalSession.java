@@ -1,11 +1,12 @@
 package io.github.forest_of_dreams.multiplayer;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 public class LocalSession implements MultiplayerSession {
-    private final List<Consumer<GameEvent>> listeners = new ArrayList<>();
+    // Copy-on-write: add/remove copy the backing array, emit iterates it without a per-event snapshot
+    private final List<Consumer<GameEvent>> listeners = new CopyOnWriteArrayList<>();
 
     @Override
     public void addListener(Consumer<GameEvent> listener) {
@@ -21,7 +22,7 @@ public class LocalSession implements MultiplayerSession {
     @Override
     public void emit(GameEvent event) {
         // Synchronous, immediate dispatch
-        for (Consumer<GameEvent> l : new ArrayList<>(listeners)) {
+        for (Consumer<GameEvent> l : listeners) {
             l.accept(event);
         }
     }
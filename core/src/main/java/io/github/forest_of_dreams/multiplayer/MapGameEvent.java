@@ -0,0 +1,28 @@
+package io.github.forest_of_dreams.multiplayer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Untyped event carrying a string-keyed payload. EventBus.emit(type, Map) only falls back to it when the
+ * payload cannot be converted into the matching GameEvents record.
+ */
+public final class MapGameEvent implements GameEvent {
+    private final GameEventType type;
+    private final Map<String, Object> data;
+
+    public MapGameEvent(GameEventType type, Map<String, Object> data) {
+        this.type = type;
+        this.data = (data == null) ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(data));
+    }
+
+    @Override
+    public GameEventType getType() { return type; }
+
+    @Override
+    public Map<String, Object> getData() { return data; }
+
+    @Override
+    public String toString() { return type + String.valueOf(data); }
+}
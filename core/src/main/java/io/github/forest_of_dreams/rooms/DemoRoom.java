@@ -10,7 +10,6 @@ import io.github.forest_of_dreams.enums.SpriteBoxPos;
 import io.github.forest_of_dreams.game_objects.cards.Card;
 import io.github.forest_of_dreams.game_objects.cards.Deck;
 import io.github.forest_of_dreams.game_objects.cards.Hand;
-import io.github.forest_of_dreams.managers.InteractionManager;
 import io.github.forest_of_dreams.managers.PlayerManager;
 import io.github.forest_of_dreams.managers.TurnManager;
 import io.github.forest_of_dreams.multiplayer.EventBus;
@@ -199,7 +198,8 @@ public class DemoRoom extends Room {
             // Guard against double-registration if DemoRoom is recreated without clearing the EventBus
             if (!LOGGER_REGISTERED) {
                 Consumer<GameEvent> eventLogger = (evt) -> {
-                    Logger.log("DemoRoom/Event", evt.getType() + " -> " + evt.getData());
+                    // Typed events print their fields via toString, so no legacy payload map is built
+                    Logger.log("DemoRoom/Event", evt.getType() + " -> " + evt);
                 };
                 for (GameEventType t : GameEventType.values()) {
                     EventBus.register(t, eventLogger);
@@ -208,19 +208,6 @@ public class DemoRoom extends Room {
             }
         }
 
-        System.out.println("InteractionManager.getClickables().size() = " + InteractionManager.getClickables().size());
-        InteractionManager.getClickables().forEach((c) -> {
-            if (c instanceof WolfCard wolfCard) {
-                System.out.println("wolfCard = " + wolfCard);
-            } else if (c instanceof Text text) {
-                System.out.println("text.getText() = " + text.getText());
-            } else if (c instanceof PassTurnButton) {
-                System.out.println("pass turn button clickable registered");
-            } else {
-                System.out.println("c = " + c);
-            }
-        });
-
         int[] board_size = board.getPixelSize();
         layoutBoard(board_size[0], board_size[1]);
     }
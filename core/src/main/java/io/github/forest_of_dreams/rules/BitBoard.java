@@ -0,0 +1,114 @@
+package io.github.forest_of_dreams.rules;
+
+/**
+ * Fixed-size bitset over board cells backed by long words (bit i == cell index i).
+ * All operations are in place and allocation-free so they can run inside per-frame
+ * queries and tight simulation loops. Boards larger than 64 cells simply span more words.
+ */
+public final class BitBoard {
+    private final long[] words;
+    private final int size;
+
+    public BitBoard(int size) {
+        if (size <= 0) throw new IllegalArgumentException("size must be positive");
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    public int size() { return size; }
+
+    public boolean get(int i) {
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    public void set(int i) {
+        words[i >>> 6] |= (1L << i);
+    }
+
+    public void clear(int i) {
+        words[i >>> 6] &= ~(1L << i);
+    }
+
+    public void clearAll() {
+        for (int w = 0; w < words.length; w++) words[w] = 0L;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) if (word != 0L) return false;
+        return true;
+    }
+
+    public int cardinality() {
+        int n = 0;
+        for (long word : words) n += Long.bitCount(word);
+        return n;
+    }
+
+    /** Index of the first set bit at or after 'from', or -1 if none. */
+    public int nextSetBit(int from) {
+        if (from >= size) return -1;
+        int w = from >>> 6;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0L) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                return i < size ? i : -1;
+            }
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    public void copyFrom(BitBoard other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    public void or(BitBoard other) {
+        for (int w = 0; w < words.length; w++) words[w] |= other.words[w];
+    }
+
+    public void and(BitBoard other) {
+        for (int w = 0; w < words.length; w++) words[w] &= other.words[w];
+    }
+
+    public void andNot(BitBoard other) {
+        for (int w = 0; w < words.length; w++) words[w] &= ~other.words[w];
+    }
+
+    /** dst = this shifted toward higher cell indices by n bits; bits beyond size are dropped. */
+    public void shiftUpInto(int n, BitBoard dst) {
+        int wordShift = n >>> 6;
+        int bitShift = n & 63;
+        for (int i = words.length - 1; i >= 0; i--) {
+            int j = i - wordShift;
+            long v = (j >= 0) ? (words[j] << bitShift) : 0L;
+            if (bitShift != 0 && j - 1 >= 0) v |= words[j - 1] >>> (64 - bitShift);
+            dst.words[i] = v;
+        }
+        dst.trimTail();
+    }
+
+    /** dst = this shifted toward lower cell indices by n bits. */
+    public void shiftDownInto(int n, BitBoard dst) {
+        int wordShift = n >>> 6;
+        int bitShift = n & 63;
+        for (int i = 0; i < words.length; i++) {
+            int j = i + wordShift;
+            long v = (j < words.length) ? (words[j] >>> bitShift) : 0L;
+            if (bitShift != 0 && j + 1 < words.length) v |= words[j + 1] << (64 - bitShift);
+            dst.words[i] = v;
+        }
+    }
+
+    public BitBoard copy() {
+        BitBoard out = new BitBoard(size);
+        out.copyFrom(this);
+        return out;
+    }
+
+    // Clear unused high bits of the last word so shifts never leak past the last cell
+    private void trimTail() {
+        int rem = size & 63;
+        if (rem != 0) words[words.length - 1] &= (1L << rem) - 1;
+    }
+}
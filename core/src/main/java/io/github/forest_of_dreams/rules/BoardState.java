@@ -0,0 +1,246 @@
+package io.github.forest_of_dreams.rules;
+
+import io.github.forest_of_dreams.enums.PieceAlignment;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Headless, renderer-free grid state of a Board.
+ * Cells are addressed by index (row * cols + col) and hold plain values only, so a state can be
+ * copied cheaply and mutated by the RulesEngine without touching textures, sprites or the EventBus.
+ * Occupancy is additionally tracked as BitBoards (occupied, P1, P2, terrain) for shift-and-mask queries.
+ */
+public final class BoardState {
+    @Getter private final int rows;
+    @Getter private final int cols;
+
+    // Per-cell piece data (struct-of-arrays); owner == null means the cell is empty
+    private final UUID[] pieceIds;
+    private final PieceAlignment[] owners;
+    private final boolean[] terrain;
+    private final int[] health;
+    private final int[] damage;
+    private final int[] speed;
+    private final int[] actions;
+    private final int[] maxActions;
+
+    // Occupancy bitboards, kept in sync by every mutator below
+    @Getter private final BitBoard occupied;
+    @Getter private final BitBoard p1;
+    @Getter private final BitBoard p2;
+    @Getter private final BitBoard terrainCells;
+    // Column masks used to stop horizontal shifts wrapping into the neighbouring row (immutable, shared by copies)
+    final BitBoard notFirstCol;
+    final BitBoard notLastCol;
+    // Scratch buffers for RulesEngine queries so they never allocate
+    final BitBoard reachable;
+    final BitBoard adjacent;
+    final BitBoard frontier;
+    final BitBoard next;
+    final BitBoard shifted;
+
+    public BoardState(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("rows and cols must be positive");
+        this.rows = rows;
+        this.cols = cols;
+        int cells = rows * cols;
+        pieceIds = new UUID[cells];
+        owners = new PieceAlignment[cells];
+        terrain = new boolean[cells];
+        health = new int[cells];
+        damage = new int[cells];
+        speed = new int[cells];
+        actions = new int[cells];
+        maxActions = new int[cells];
+        occupied = new BitBoard(cells);
+        p1 = new BitBoard(cells);
+        p2 = new BitBoard(cells);
+        terrainCells = new BitBoard(cells);
+        notFirstCol = new BitBoard(cells);
+        notLastCol = new BitBoard(cells);
+        for (int i = 0; i < cells; i++) {
+            if (i % cols != 0) notFirstCol.set(i);
+            if (i % cols != cols - 1) notLastCol.set(i);
+        }
+        reachable = new BitBoard(cells);
+        adjacent = new BitBoard(cells);
+        frontier = new BitBoard(cells);
+        next = new BitBoard(cells);
+        shifted = new BitBoard(cells);
+    }
+
+    private BoardState(BoardState other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        pieceIds = other.pieceIds.clone();
+        owners = other.owners.clone();
+        terrain = other.terrain.clone();
+        health = other.health.clone();
+        damage = other.damage.clone();
+        speed = other.speed.clone();
+        actions = other.actions.clone();
+        maxActions = other.maxActions.clone();
+        occupied = other.occupied.copy();
+        p1 = other.p1.copy();
+        p2 = other.p2.copy();
+        terrainCells = other.terrainCells.copy();
+        notFirstCol = other.notFirstCol;
+        notLastCol = other.notLastCol;
+        int cells = rows * cols;
+        reachable = new BitBoard(cells);
+        adjacent = new BitBoard(cells);
+        frontier = new BitBoard(cells);
+        next = new BitBoard(cells);
+        shifted = new BitBoard(cells);
+    }
+
+    /** Deep copy suitable for simulations; the copy shares no mutable state with this one. */
+    public BoardState copy() {
+        return new BoardState(this);
+    }
+
+    /** Overwrite this state with another of the same dimensions without allocating (scratch buffers are kept). */
+    public void copyFrom(BoardState other) {
+        if (other.rows != rows || other.cols != cols) throw new IllegalArgumentException("BoardState dimensions differ");
+        int cells = rows * cols;
+        System.arraycopy(other.pieceIds, 0, pieceIds, 0, cells);
+        System.arraycopy(other.owners, 0, owners, 0, cells);
+        System.arraycopy(other.terrain, 0, terrain, 0, cells);
+        System.arraycopy(other.health, 0, health, 0, cells);
+        System.arraycopy(other.damage, 0, damage, 0, cells);
+        System.arraycopy(other.speed, 0, speed, 0, cells);
+        System.arraycopy(other.actions, 0, actions, 0, cells);
+        System.arraycopy(other.maxActions, 0, maxActions, 0, cells);
+        occupied.copyFrom(other.occupied);
+        p1.copyFrom(other.p1);
+        p2.copyFrom(other.p2);
+        terrainCells.copyFrom(other.terrainCells);
+    }
+
+    public int getCellCount() { return rows * cols; }
+
+    public int index(int row, int col) { return row * cols + col; }
+
+    public boolean isInside(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    // --- Queries ---
+    public boolean isOccupied(int row, int col) { return occupied.get(index(row, col)); }
+
+    public boolean isTerrain(int row, int col) { return terrain[index(row, col)]; }
+
+    public boolean isMonster(int row, int col) {
+        int i = index(row, col);
+        return owners[i] != null && !terrain[i];
+    }
+
+    public PieceAlignment getOwner(int row, int col) { return owners[index(row, col)]; }
+
+    public UUID getPieceId(int row, int col) { return pieceIds[index(row, col)]; }
+
+    public int getHealth(int row, int col) { return health[index(row, col)]; }
+
+    public int getDamage(int row, int col) { return damage[index(row, col)]; }
+
+    public int getSpeed(int row, int col) { return speed[index(row, col)]; }
+
+    public int getActions(int row, int col) { return actions[index(row, col)]; }
+
+    public int getMaxActions(int row, int col) { return maxActions[index(row, col)]; }
+
+    // --- Mutators ---
+    public void placeMonster(int row, int col, UUID id, PieceAlignment owner, int health, int damage, int speed, int actions, int maxActions) {
+        if (owner == null) throw new IllegalArgumentException("owner must not be null");
+        int i = index(row, col);
+        pieceIds[i] = id;
+        owners[i] = owner;
+        terrain[i] = false;
+        this.health[i] = health;
+        this.damage[i] = damage;
+        this.speed[i] = speed;
+        this.actions[i] = actions;
+        this.maxActions[i] = maxActions;
+        updateBits(i);
+    }
+
+    public void placeTerrain(int row, int col, UUID id) {
+        int i = index(row, col);
+        pieceIds[i] = id;
+        owners[i] = PieceAlignment.NEUTRAL;
+        terrain[i] = true;
+        health[i] = 0;
+        damage[i] = 0;
+        speed[i] = 0;
+        actions[i] = 0;
+        maxActions[i] = 0;
+        updateBits(i);
+    }
+
+    public void clear(int row, int col) {
+        int i = index(row, col);
+        pieceIds[i] = null;
+        owners[i] = null;
+        terrain[i] = false;
+        health[i] = 0;
+        damage[i] = 0;
+        speed[i] = 0;
+        actions[i] = 0;
+        maxActions[i] = 0;
+        updateBits(i);
+    }
+
+    public void clearAll() {
+        Arrays.fill(pieceIds, null);
+        Arrays.fill(owners, null);
+        Arrays.fill(terrain, false);
+        Arrays.fill(health, 0);
+        Arrays.fill(damage, 0);
+        Arrays.fill(speed, 0);
+        Arrays.fill(actions, 0);
+        Arrays.fill(maxActions, 0);
+        occupied.clearAll();
+        p1.clearAll();
+        p2.clearAll();
+        terrainCells.clearAll();
+    }
+
+    /** Move whatever occupies (fromRow,fromCol) to (toRow,toCol); the destination is overwritten. */
+    public void move(int fromRow, int fromCol, int toRow, int toCol) {
+        int from = index(fromRow, fromCol);
+        int to = index(toRow, toCol);
+        if (from == to) return;
+        pieceIds[to] = pieceIds[from];
+        owners[to] = owners[from];
+        terrain[to] = terrain[from];
+        health[to] = health[from];
+        damage[to] = damage[from];
+        speed[to] = speed[from];
+        actions[to] = actions[from];
+        maxActions[to] = maxActions[from];
+        updateBits(to);
+        clear(fromRow, fromCol);
+    }
+
+    // Mirror one cell's owner/terrain flags into the occupancy bitboards
+    private void updateBits(int i) {
+        PieceAlignment owner = owners[i];
+        if (owner == null) occupied.clear(i); else occupied.set(i);
+        if (owner == PieceAlignment.P1 && !terrain[i]) p1.set(i); else p1.clear(i);
+        if (owner == PieceAlignment.P2 && !terrain[i]) p2.set(i); else p2.clear(i);
+        if (terrain[i]) terrainCells.set(i); else terrainCells.clear(i);
+    }
+
+    public void setHealth(int row, int col, int value) { health[index(row, col)] = value; }
+
+    public void setActions(int row, int col, int value) { actions[index(row, col)] = value; }
+
+    /** Reset remaining actions of all monsters owned by the given player to their maximum. */
+    public void resetActions(PieceAlignment owner) {
+        for (int i = 0; i < owners.length; i++) {
+            if (owners[i] == owner && !terrain[i]) actions[i] = maxActions[i];
+        }
+    }
+}
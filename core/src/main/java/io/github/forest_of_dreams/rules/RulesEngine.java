@@ -0,0 +1,153 @@
+package io.github.forest_of_dreams.rules;
+
+import io.github.forest_of_dreams.enums.PieceAlignment;
+
+/**
+ * Pure rule resolution over a BoardState: movement reachability, attack legality, summon rows,
+ * win rows, and simulation-only state transitions. Static-only, no retained state, and no
+ * dependency on rendering, Gdx or the EventBus, so it can run on any thread. Queries reuse the
+ * scratch bitboards of the BoardState they are given, so a single state must not be shared across threads.
+ */
+public final class RulesEngine {
+    private RulesEngine() {}
+
+    /**
+     * Compute the cells reachable from (row,col) within a maximum path length (speed), moving
+     * 4-directionally. Cannot pass through or end on occupied cells. The origin cell is excluded.
+     * Implemented as a bitboard flood fill: one shift-and-mask expansion per step of speed.
+     * @return a BitBoard owned by the state; it is overwritten by the next reachability query on that state
+     */
+    public static BitBoard getReachable(BoardState state, int row, int col, int speed) {
+        BitBoard reach = state.reachable;
+        reach.clearAll();
+        if (speed <= 0 || !state.isInside(row, col)) return reach;
+        BitBoard frontier = state.frontier;
+        BitBoard next = state.next;
+        int origin = state.index(row, col);
+        frontier.clearAll();
+        frontier.set(origin);
+        for (int step = 0; step < speed; step++) {
+            expandCardinal(state, frontier, next);
+            // Cannot enter occupied cells or revisit cells reached on an earlier step
+            next.andNot(state.getOccupied());
+            next.andNot(reach);
+            if (next.isEmpty()) break;
+            reach.or(next);
+            frontier.copyFrom(next);
+        }
+        reach.clear(origin);
+        return reach;
+    }
+
+    public static boolean isReachable(BoardState state, int fromRow, int fromCol, int toRow, int toCol, int speed) {
+        if (!state.isInside(toRow, toCol)) return false;
+        return getReachable(state, fromRow, fromCol, speed).get(state.index(toRow, toCol));
+    }
+
+    /**
+     * Cardinally adjacent cells around (row,col) holding monsters hostile to 'friendly'.
+     * @return a BitBoard owned by the state; it is overwritten by the next adjacency query on that state
+     */
+    public static BitBoard getAdjacentHostile(BoardState state, int row, int col, PieceAlignment friendly) {
+        BitBoard adj = state.adjacent;
+        adj.clearAll();
+        if (!state.isInside(row, col)) return adj;
+        BitBoard origin = state.frontier;
+        origin.clearAll();
+        origin.set(state.index(row, col));
+        expandCardinal(state, origin, adj);
+        // Hostile = monsters (occupied, not terrain) that are not owned by the friendly side
+        adj.and(state.getOccupied());
+        adj.andNot(state.getTerrainCells());
+        if (friendly == PieceAlignment.P1) adj.andNot(state.getP1());
+        else if (friendly == PieceAlignment.P2) adj.andNot(state.getP2());
+        return adj;
+    }
+
+    // out = N/E/S/W neighbours of every set cell in src (row shifts by cols, column shifts masked against wrap)
+    private static void expandCardinal(BoardState state, BitBoard src, BitBoard out) {
+        int cols = state.getCols();
+        BitBoard tmp = state.shifted;
+        src.shiftUpInto(cols, out);
+        src.shiftDownInto(cols, tmp);
+        out.or(tmp);
+        src.shiftUpInto(1, tmp);
+        tmp.and(state.notFirstCol);
+        out.or(tmp);
+        src.shiftDownInto(1, tmp);
+        tmp.and(state.notLastCol);
+        out.or(tmp);
+    }
+
+    public static boolean isCardinallyAdjacent(int fromRow, int fromCol, int toRow, int toCol) {
+        return Math.abs(toRow - fromRow) + Math.abs(toCol - fromCol) == 1;
+    }
+
+    /** True if (row,col) holds a monster whose owner differs from the given friendly alignment. */
+    public static boolean isHostileMonster(BoardState state, int row, int col, PieceAlignment friendly) {
+        if (!state.isInside(row, col)) return false;
+        return state.isMonster(row, col) && state.getOwner(row, col) != friendly;
+    }
+
+    /** Geometry and occupancy check for an attack; action budgets are the caller's concern. */
+    public static boolean canAttack(BoardState state, int fromRow, int fromCol, int toRow, int toCol) {
+        if (!state.isInside(fromRow, fromCol) || !state.isMonster(fromRow, fromCol)) return false;
+        if (!isCardinallyAdjacent(fromRow, fromCol, toRow, toCol)) return false;
+        return isHostileMonster(state, toRow, toCol, state.getOwner(fromRow, fromCol));
+    }
+
+    /** Geometry and occupancy check for a move within 'speed' steps; action budgets are the caller's concern. */
+    public static boolean canMove(BoardState state, int fromRow, int fromCol, int toRow, int toCol, int speed) {
+        if (!state.isInside(fromRow, fromCol) || !state.isMonster(fromRow, fromCol)) return false;
+        if (!state.isInside(toRow, toCol) || state.isOccupied(toRow, toCol)) return false;
+        return isReachable(state, fromRow, fromCol, toRow, toCol, speed);
+    }
+
+    /** Summon row policy: P1 summons on the first row (0), P2 on the last row (ROWS-1). */
+    public static int getSummonRow(BoardState state, PieceAlignment owner) {
+        return switch (owner) {
+            case P1 -> 0;
+            case P2 -> state.getRows() - 1;
+            default -> -1;
+        };
+    }
+
+    public static boolean canSummon(BoardState state, int row, int col, PieceAlignment owner) {
+        if (owner == null || !state.isInside(row, col)) return false;
+        if (state.isOccupied(row, col)) return false;
+        return row == getSummonRow(state, owner);
+    }
+
+    /** A piece wins by reaching the opponent's summoning row. */
+    public static boolean isWinningRow(BoardState state, PieceAlignment owner, int row) {
+        if (owner == PieceAlignment.P1) return row == state.getRows() - 1;
+        if (owner == PieceAlignment.P2) return row == 0;
+        return false;
+    }
+
+    // --- Simulation transitions (headless; the live Board resolves these through its own pieces) ---
+
+    /**
+     * Resolve an attack on the state: apply the attacker's damage, remove the defender if it dies,
+     * and spend one attacker action.
+     * @return true if the defender died
+     */
+    public static boolean applyAttack(BoardState state, int fromRow, int fromCol, int toRow, int toCol) {
+        int hp = state.getHealth(toRow, toCol) - state.getDamage(fromRow, fromCol);
+        state.setHealth(toRow, toCol, hp);
+        boolean died = hp <= 0;
+        if (died) state.clear(toRow, toCol);
+        spendAction(state, fromRow, fromCol);
+        return died;
+    }
+
+    /** Resolve a move on the state and spend one action from the moved piece. */
+    public static void applyMove(BoardState state, int fromRow, int fromCol, int toRow, int toCol) {
+        state.move(fromRow, fromCol, toRow, toCol);
+        spendAction(state, toRow, toCol);
+    }
+
+    public static void spendAction(BoardState state, int row, int col) {
+        state.setActions(row, col, Math.max(0, state.getActions(row, col) - 1));
+    }
+}
@@ -2,11 +2,13 @@ package io.github.forest_of_dreams.supers;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import io.github.forest_of_dreams.interfaces.Renderable;
+import io.github.forest_of_dreams.managers.RenderQueue;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeSet;
 
 /**
  * Higher order texture that can contain other textures
@@ -15,12 +17,12 @@ import java.util.List;
 public abstract class HigherOrderTexture extends LowestOrderTexture implements Renderable {
     private List<Renderable> renderables = new ArrayList<>();
 
+    // Distinct and sorted. Not cached: children (and their children) change z coverage without notifying the container
     @Override
     public List<Integer> getZs() {
-        return getRenderables().stream()
-            .map(Renderable::getZs)
-            .flatMap(List::stream)
-            .toList();
+        TreeSet<Integer> zs = new TreeSet<>();
+        for (Renderable r : renderables) zs.addAll(r.getZs());
+        return List.copyOf(zs);
     }
 
     @Override
@@ -32,4 +34,15 @@ public abstract class HigherOrderTexture extends LowestOrderTexture implements R
     public void render(SpriteBatch batch, int zLevel, boolean isPaused, int x, int y) {
         renderables.forEach(r -> r.render(batch, zLevel, isPaused, x, y));
     }
+
+    // Children record their own z levels, so the container is walked once per frame
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused) {
+        renderables.forEach(r -> r.enqueue(queue, isPaused));
+    }
+
+    @Override
+    public void enqueue(RenderQueue queue, boolean isPaused, int x, int y) {
+        renderables.forEach(r -> r.enqueue(queue, isPaused, x, y));
+    }
 }
@@ -1,7 +1,9 @@
 package io.github.forest_of_dreams.supers;
 
 import io.github.forest_of_dreams.data_objects.Box;
+import io.github.forest_of_dreams.interfaces.Clickable;
 import io.github.forest_of_dreams.interfaces.CustomBox;
+import io.github.forest_of_dreams.managers.InteractionManager;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,6 +15,17 @@ public abstract class LowestOrderTexture implements CustomBox {
     private Box parent;
     private Box bounds;
 
+    public void setParent(Box parent) {
+        this.parent = parent;
+        // Keep the click index in sync with the new absolute position
+        if (this instanceof Clickable clickable) InteractionManager.markBoundsDirty(clickable);
+    }
+
+    public void setBounds(Box bounds) {
+        this.bounds = bounds;
+        if (this instanceof Clickable clickable) InteractionManager.markBoundsDirty(clickable);
+    }
+
     protected int[] calculatePos() {
         if (bounds == null) return new int[]{0, 0};
         if (parent == null) return new int[]{bounds.getX(), bounds.getY()};
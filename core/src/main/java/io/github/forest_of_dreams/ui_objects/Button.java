@@ -4,12 +4,14 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import io.github.forest_of_dreams.data_objects.Box;
 import io.github.forest_of_dreams.data_objects.ClickableEffectData;
 import io.github.forest_of_dreams.utils.ColorSettings;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import io.github.forest_of_dreams.enums.FontType;
 import io.github.forest_of_dreams.interfaces.*;
+import io.github.forest_of_dreams.managers.TextureManager;
 import io.github.forest_of_dreams.supers.LowestOrderTexture;
 import io.github.forest_of_dreams.utils.GraphicUtils;
 import io.github.forest_of_dreams.utils.HoverUtils;
@@ -30,7 +32,7 @@ public class Button extends LowestOrderTexture implements Renderable, Clickable,
     @Getter @Setter private int z;
 
     // Background options (only one should be used)
-    private Texture backgroundTexture; // full texture; scaled to bounds (optionally preserving aspect)
+    private TextureRegion backgroundTexture; // full image (shared region); scaled to bounds (optionally preserving aspect)
     private Color backgroundColor;     // solid color fill
     private boolean preserveImageAspect = false;  // if true, image is fit-centered with aspect preserved
 
@@ -89,7 +91,7 @@ public class Button extends LowestOrderTexture implements Renderable, Clickable,
         int z
     ) {
         Button b = new Button(text, fontType, fontSize, x, y, width, height, z);
-        b.backgroundTexture = new Texture(Gdx.files.internal(imagePath));
+        b.backgroundTexture = TextureManager.getRegion(imagePath);
         return b;
     }
 
@@ -196,8 +198,8 @@ public class Button extends LowestOrderTexture implements Renderable, Clickable,
         if (backgroundTexture != null) {
             if (preserveImageAspect) {
                 // Fit the texture inside bounds while preserving its aspect ratio; center within box
-                int texW = backgroundTexture.getWidth();
-                int texH = backgroundTexture.getHeight();
+                int texW = backgroundTexture.getRegionWidth();
+                int texH = backgroundTexture.getRegionHeight();
                 if (texW > 0 && texH > 0) {
                     float scale = Math.min((float) width / texW, (float) height / texH);
                     int drawW = Math.max(1, Math.round(texW * scale));
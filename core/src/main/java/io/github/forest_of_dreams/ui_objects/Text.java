@@ -1,6 +1,7 @@
 package io.github.forest_of_dreams.ui_objects;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
@@ -15,6 +16,7 @@ import io.github.forest_of_dreams.managers.SettingsManager;
 import io.github.forest_of_dreams.supers.LowestOrderTexture;
 import io.github.forest_of_dreams.utils.HoverUtils;
 import io.github.forest_of_dreams.utils.FontSize;
+import io.github.forest_of_dreams.utils.TextFitCache;
 import lombok.Getter;
 import lombok.Setter;
 import com.badlogic.gdx.utils.Align;
@@ -48,6 +50,11 @@ public class Text extends LowestOrderTexture implements Renderable, UIRenderable
     private boolean needsReflow = false;
     private int alignment = Align.center;
 
+    // Everything the glyph layout depends on; position and color are deliberately not part of it
+    private record LayoutKey(String text, BitmapFont font, float scale, boolean wrap, int wrapWidth, int wrapHeight, int alignment) {}
+    private static final float MIN_FIT_SCALE = 0.1f;
+    private LayoutKey laidOut = null;
+
     public Text(String text, FontType fontType, int x, int y, int z, Color color) {
         this.text = text;
         this.fontType = fontType;
@@ -96,7 +103,6 @@ public class Text extends LowestOrderTexture implements Renderable, UIRenderable
         this.wrapEnabled = true;
         this.wrapWidth = Math.max(0, width);
         this.wrapHeight = Math.max(0, height);
-        this.needsReflow = true;
         update();
         return this;
     }
@@ -104,7 +110,6 @@ public class Text extends LowestOrderTexture implements Renderable, UIRenderable
     public Text withWrapWidth(int width) {
         this.wrapEnabled = true;
         this.wrapWidth = Math.max(0, width);
-        this.needsReflow = true;
         update();
         return this;
     }
@@ -114,7 +119,6 @@ public class Text extends LowestOrderTexture implements Renderable, UIRenderable
         this.wrapEnabled = false;
         this.wrapWidth = 0;
         this.wrapHeight = 0;
-        this.needsReflow = true;
         update();
         return this;
     }
@@ -135,68 +139,77 @@ public class Text extends LowestOrderTexture implements Renderable, UIRenderable
         return withFontSize(size.getSize());
     }
 
+    /**
+     * Lay the text out for the current text, font, size and wrap settings and refresh bounds.
+     * The Label (with its glyph layout and font cache) is created once and reused. When none of the
+     * layout inputs changed since the last call only position and color are refreshed; wrapped fits come
+     * from the shared TextFitCache.
+     */
     public void update() {
-        style = FontManager.getLabelStyle(fontType);
-        label = new Label(text, style);
+        // A requested size gets a font rasterized near that size when the font has a TrueType source;
+        // the font scale below covers the small remainder
+        style = desiredFontSize != null
+            ? FontManager.getLabelStyle(fontType, desiredFontSize)
+            : FontManager.getLabelStyle(fontType);
+        float baseCap = Math.abs(style.font.getCapHeight());
+        float startScale = (desiredFontSize != null && baseCap > 0f) ? desiredFontSize / baseCap : fontScale;
+        LayoutKey key = new LayoutKey(text, style.font, startScale, wrapEnabled, wrapWidth, wrapHeight, alignment);
+
+        if (label == null) {
+            label = new Label(text, style);
+            label.setWrap(false);
+        } else if (!needsReflow && key.equals(laidOut)) {
+            // Only position/color may have changed: no glyph layout needed
+            applyPlacement();
+            return;
+        }
+        if (label.getStyle() != style) label.setStyle(style);
+        label.setText(text);
         label.setAlignment(alignment);
-        label.setWrap(false);
 
         // Apply font sizing on the label (does not mutate the shared BitmapFont instance)
         if (!wrapEnabled) {
-            // Legacy non-wrapped behavior
-            if (desiredFontSize != null) {
-                float baseCap = Math.abs(style.font.getCapHeight());
-                if (baseCap > 0f) {
-                    label.setFontScale(desiredFontSize / baseCap);
-                } else {
-                    label.setFontScale(fontScale);
-                }
-            } else {
-                label.setFontScale(fontScale);
-            }
-            label.pack();
+            label.setFontScale(startScale);
         } else {
-            // Wrapped behavior: search for the largest scale that fits into wrapHeight (if provided)
-            float baseCap = Math.abs(style.font.getCapHeight());
-            float startScale = (desiredFontSize != null && baseCap > 0f)
-                ? Math.max(0.1f, desiredFontSize / baseCap)
-                : Math.max(0.1f, fontScale);
-
-            float lo = 0.1f;    // definitely fits at very small scale
-            float hi = startScale;
-            // Ensure baseline at least packs
-            label.setFontScale(hi);
-            label.pack();
-            float targetH = (wrapHeight > 0 ? wrapHeight : Float.MAX_VALUE);
-            int guard = 0;
-            while (true) {
-                boolean heightOk = (label.getHeight() <= targetH);
-                boolean widthOk = (wrapWidth <= 0) || (label.getWidth() <= wrapWidth);
-                if (!(heightOk && widthOk) || guard >= 8) break;
-                lo = hi; // last fit
-                hi *= 2f;
-                label.setFontScale(hi);
-                label.pack();
-                guard++;
-            }
-            // Now binary search between lo (fits) and hi (overflows) for max fit
-            for (int i = 0; i < 14; i++) {
-                float mid = (lo + hi) * 0.5f;
-                label.setFontScale(mid);
-                label.pack();
-                boolean heightOk = (label.getHeight() <= targetH);
-                boolean widthOk = (wrapWidth <= 0) || (label.getWidth() <= wrapWidth);
-                if (heightOk && widthOk) {
-                    lo = mid; // fits, go higher
-                } else {
-                    hi = mid; // too big
-                }
-            }
-            // Apply best scale (lo)
-            label.setFontScale(lo);
+            // Shared across instances: copies of a card solve their description fit once
+            TextFitCache.Key fitKey = new TextFitCache.Key(style.font, text, startScale, wrapWidth, wrapHeight);
+            label.setFontScale(TextFitCache.getOrCompute(fitKey, k -> fitScale(Math.max(MIN_FIT_SCALE, startScale))));
+        }
+        label.pack();
+        laidOut = key;
+        needsReflow = false;
+        applyPlacement();
+    }
+
+    // Largest scale (up to 256x the requested size) at which the text fits the wrap bounds.
+    // Glyph layout size is linear in the font scale, so one layout at scale 1 gives the answer;
+    // the result is then verified and nudged down if float rounding makes it overflow.
+    private float fitScale(float startScale) {
+        label.setFontScale(1f);
+        label.pack();
+        float w1 = label.getWidth();
+        float h1 = label.getHeight();
+        float fit = startScale * 256f;
+        if (wrapWidth > 0 && w1 > 0f) fit = Math.min(fit, wrapWidth / w1);
+        if (wrapHeight > 0 && h1 > 0f) fit = Math.min(fit, wrapHeight / h1);
+        fit = Math.max(MIN_FIT_SCALE, fit);
+        label.setFontScale(fit);
+        label.pack();
+        for (int i = 0; i < 4 && fit > MIN_FIT_SCALE && !fitsWrapBounds(); i++) {
+            fit = Math.max(MIN_FIT_SCALE, fit * 0.99f);
+            label.setFontScale(fit);
             label.pack();
         }
+        return fit;
+    }
 
+    private boolean fitsWrapBounds() {
+        boolean heightOk = (wrapHeight <= 0) || (label.getHeight() <= wrapHeight);
+        boolean widthOk = (wrapWidth <= 0) || (label.getWidth() <= wrapWidth);
+        return heightOk && widthOk;
+    }
+
+    private void applyPlacement() {
         Box bounds = getBounds();
         label.setPosition(bounds.getX(), bounds.getY());
         label.setColor(color);
@@ -206,9 +219,8 @@ public class Text extends LowestOrderTexture implements Renderable, UIRenderable
         int h = (int) label.getHeight();
         if (wrapEnabled && wrapWidth > 0) w = Math.min(wrapWidth, w);
         if (wrapEnabled && wrapHeight > 0) h = Math.min(wrapHeight, h);
-        getBounds().setWidth(Math.max(0, w));
-        getBounds().setHeight(Math.max(0, h));
-        needsReflow = false;
+        bounds.setWidth(Math.max(0, w));
+        bounds.setHeight(Math.max(0, h));
     }
 
 
@@ -1,11 +1,11 @@
 package io.github.forest_of_dreams.utils;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import io.github.forest_of_dreams.managers.TextureManager;
 
 /**
  * Utility class for creating sprites.
+ * Sprites are cut from the shared TextureManager regions, so no texture is loaded per sprite.
  */
 public class SpriteCreator {
     /**
@@ -20,8 +20,7 @@ public class SpriteCreator {
      * @return
      */
     public static Sprite makeSprite(String path, int sheetX, int sheetY, int width, int height, int newWidth, int newHeight) {
-        Texture texture = new Texture(Gdx.files.internal(path));
-        Sprite sprite = new Sprite(texture, sheetX, sheetY, width, height);
+        Sprite sprite = new Sprite(TextureManager.getRegion(path), sheetX, sheetY, width, height);
         sprite.setSize(newWidth, newHeight);
         return sprite;
     }
@@ -0,0 +1,49 @@
+package io.github.forest_of_dreams.utils;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Process-wide cache of solved fit-to-box font scales for wrapped Text.
+ * Identical strings laid out into identical boxes (e.g. the same ability description on every copy of a card)
+ * are solved once; every later Text with the same key reuses the scale. Line breaks are authored into the
+ * strings, so the scale fully determines the layout. Render thread only.
+ */
+public final class TextFitCache {
+    private TextFitCache() {}
+
+    /**
+     * Everything the fitted scale depends on. 'font' is the (shared, cached) font instance, so different
+     * generated sizes of one font type never share an entry; 'startScale' is the scale of the requested size.
+     */
+    public record Key(BitmapFont font, String text, float startScale, int wrapWidth, int wrapHeight) {}
+
+    private static final int MAX_ENTRIES = 512;
+    private static final Map<Key, Float> scales = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Float> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /** Cached scale for 'key', solving and storing it with 'solver' on a miss. */
+    public static float getOrCompute(Key key, Function<Key, Float> solver) {
+        Float scale = scales.get(key);
+        if (scale == null) {
+            scale = solver.apply(key);
+            scales.put(key, scale);
+        }
+        return scale;
+    }
+
+    public static int size() {
+        return scales.size();
+    }
+
+    public static void clear() {
+        scales.clear();
+    }
+}